@@ -0,0 +1,113 @@
+package br.com.eaugusto.onlineselling.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.FieldError;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import br.com.eaugusto.onlineselling.dto.ClientDTO;
+import br.com.eaugusto.onlineselling.errorhandling.ApiError;
+
+/**
+ * Measures JSON encoding and decoding of the payloads the client service
+ * writes and reads, with reflective accessors and with the Blackbird module
+ * enabled by {@code application.json.blackbird}.
+ * <p>
+ * The mapper is built by {@link Jackson2ObjectMapperBuilder} with dates written
+ * as text, as Spring Boot builds the shared one. A page holds twenty clients,
+ * the default page size of the listing endpoint, and the same clients are
+ * decoded as a request body would be.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="JsonBenchmark"}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	@Param({ "reflection", "blackbird" })
+	private String accessors;
+
+	private ObjectMapper objectMapper;
+	private ObjectReader clientsReader;
+	private Page<ClientDTO> clientPage;
+	private ApiError apiError;
+	private byte[] clientsJson;
+
+	@Setup
+	public void setup() throws IOException {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		if ("blackbird".equals(accessors)) {
+			builder.modulesToInstall(new BlackbirdModule());
+		}
+		objectMapper = builder.build();
+		clientsReader = objectMapper.readerForListOf(ClientDTO.class);
+
+		List<ClientDTO> clients = new ArrayList<>();
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			clients.add(ClientDTO.builder().id("id-C" + i).name("Client " + i)
+					.cpf(String.format("%011d", 10000000000L + i)).telephoneNumber("11999999999")
+					.email("client" + i + "@mail.com").address("Street " + i).addressNumber(100 + i)
+					.city("Sao Paulo").state("SP").build());
+		}
+		clientPage = new PageImpl<>(clients, PageRequest.of(0, PAGE_SIZE), 1000);
+		clientsJson = objectMapper.writeValueAsBytes(clients);
+
+		apiError = new ApiError(HttpStatus.BAD_REQUEST, "Validation error", new IllegalArgumentException("invalid"));
+		apiError.addValidationErrors(List.of(
+				new FieldError("clientDTO", "email", "invalid", false, null, null, "Invalid Email"),
+				new FieldError("clientDTO", "name", null, false, null, null, "must not be null"),
+				new FieldError("clientDTO", "cpf", null, false, null, null, "must not be null")));
+	}
+
+	@Benchmark
+	public byte[] encodeClientPage() throws IOException {
+		return objectMapper.writeValueAsBytes(clientPage);
+	}
+
+	@Benchmark
+	public List<ClientDTO> decodeClients() throws IOException {
+		return clientsReader.readValue(clientsJson);
+	}
+
+	@Benchmark
+	public byte[] encodeApiError() throws IOException {
+		return objectMapper.writeValueAsBytes(apiError);
+	}
+}
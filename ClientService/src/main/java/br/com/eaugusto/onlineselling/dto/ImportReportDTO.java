@@ -0,0 +1,47 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data transfer object summarizing a bulk import.
+ * <p>
+ * Every received row is counted as inserted, updated or failed. Failed rows are
+ * listed in {@link #getErrors()} up to a configured maximum, so the list may be
+ * shorter than {@link #getFailed()}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@AllArgsConstructor
+public class ImportReportDTO {
+
+	/**
+	 * Number of non-blank data rows read.
+	 */
+	private final long received;
+
+	/**
+	 * Number of rows that created a new document.
+	 */
+	private final long inserted;
+
+	/**
+	 * Number of rows that matched an existing document.
+	 */
+	private final long updated;
+
+	/**
+	 * Number of rows that were rejected.
+	 */
+	private final long failed;
+
+	/**
+	 * Rejected rows, in the order they were found.
+	 */
+	private final List<ImportErrorDTO> errors;
+}
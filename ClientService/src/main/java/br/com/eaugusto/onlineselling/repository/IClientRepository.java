@@ -1,8 +1,17 @@
 package br.com.eaugusto.onlineselling.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.eaugusto.onlineselling.domain.Client;
@@ -10,8 +19,9 @@ import br.com.eaugusto.onlineselling.domain.Client;
 /**
  * Repository interface for managing {@link Client} entities in MongoDB.
  * <p>
- * Extends {@link MongoRepository} to provide basic CRUD operations and adds a
- * custom query method for searching a client by CPF.
+ * Extends {@link MongoRepository} to provide basic CRUD operations and adds
+ * custom query methods for searching a client by CPF and for checking many ids
+ * at once.
  * </p>
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -21,4 +31,35 @@ import br.com.eaugusto.onlineselling.domain.Client;
 public interface IClientRepository extends MongoRepository<Client, String> {
 
 	Optional<Client> searchByCpf(String cpf);
+
+	/**
+	 * Finds which of the given ids exist with a single {@code $in} query. Only the
+	 * {@code _id} field is read, so the lookup can be answered from the index. The
+	 * stream is backed by the MongoDB cursor and must be closed.
+	 *
+	 * @param ids the client ids
+	 * @return the ids that exist
+	 */
+	Stream<ClientId> findByIdIn(Collection<String> ids);
+
+	/**
+	 * Closed projection exposing only the client id.
+	 */
+	interface ClientId {
+
+		String getId();
+	}
+
+	/**
+	 * Reads one page without counting the collection. One extra client is
+	 * fetched to tell whether a next page exists.
+	 */
+	Slice<Client> findAllBy(Pageable pageable);
+
+	/**
+	 * Reads one keyset window. The explicit empty filter works around derived
+	 * queries without criteria, whose filter cannot take the keyset condition.
+	 */
+	@Query("{}")
+	Window<Client> findAllBy(ScrollPosition position, Limit limit, Sort sort);
 }
@@ -1,7 +1,13 @@
 package br.com.eaugusto.onlineselling.resources;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +16,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import br.com.eaugusto.onlineselling.dto.ClientDTO;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.usecase.ImportClients;
 import br.com.eaugusto.onlineselling.usecase.RegisterClient;
 import br.com.eaugusto.onlineselling.usecase.SearchClient;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,9 +33,9 @@ import jakarta.validation.Valid;
 /**
  * REST controller exposing endpoints for managing clients.
  * <p>
- * Provides CRUD operations, search capabilities by ID or CPF, and an endpoint
- * to verify if a client is registered. Uses {@link SearchClient} for read
- * operations and {@link RegisterClient} for write operations.
+ * Provides CRUD operations, bulk import, search capabilities by ID or CPF, and
+ * an endpoint to verify if a client is registered. Uses {@link SearchClient}
+ * for read operations and {@link RegisterClient} for write operations.
  * </p>
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -35,10 +47,12 @@ public class ClientResource {
 
 	private final SearchClient searchClient;
 	private final RegisterClient registerClient;
+	private final ImportClients importClients;
 
-	public ClientResource(SearchClient searchClient, RegisterClient registerClient) {
+	public ClientResource(SearchClient searchClient, RegisterClient registerClient, ImportClients importClients) {
 		this.searchClient = searchClient;
 		this.registerClient = registerClient;
+		this.importClients = importClients;
 	}
 
 	@GetMapping
@@ -47,6 +61,20 @@ public class ClientResource {
 		return ResponseEntity.ok(searchClient.searchAllClients(pageable));
 	}
 
+	@GetMapping(value = "/slice")
+	@Operation(summary = "Searches all Clients without counting them", description = "Returns hasNext instead of a page count. Pass total=ESTIMATED or total=CACHED to include an approximate total; totalSource tells which one was used.")
+	public ResponseEntity<SliceDTO<ClientDTO>> sliceAllClients(Pageable pageable,
+			@RequestParam(defaultValue = "NONE") TotalSource total) {
+		return ResponseEntity.ok(searchClient.sliceAllClients(pageable, total));
+	}
+
+	@GetMapping(value = "/scroll")
+	@Operation(summary = "Searches all Clients with a cursor", description = "Pass the returned nextCursor as cursor to read the next window; it is null on the last window.")
+	public ResponseEntity<CursorPageDTO<ClientDTO>> scrollAllClients(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int size) {
+		return ResponseEntity.ok(searchClient.scrollAllClients(cursor, size));
+	}
+
 	@GetMapping(value = "/{id}")
 	@Operation(summary = "Searches a Client by its Id")
 	public ResponseEntity<ClientDTO> searchById(@PathVariable String id) {
@@ -59,6 +87,12 @@ public class ClientResource {
 		return ResponseEntity.ok(searchClient.isRegistered(id));
 	}
 
+	@PostMapping(value = "/isRegistered")
+	@Operation(summary = "Checks which Clients of a list of Ids exist")
+	public ResponseEntity<Map<String, Boolean>> areRegistered(@RequestBody List<String> ids) {
+		return ResponseEntity.ok(searchClient.areRegistered(ids));
+	}
+
 	@PostMapping
 	@Operation(summary = "Registers a Client")
 	public ResponseEntity<ClientDTO> register(@RequestBody @Valid ClientDTO clientDto) {
@@ -71,6 +105,12 @@ public class ClientResource {
 		return ResponseEntity.ok(searchClient.searchByCpf(cpf));
 	}
 
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Imports Clients from newline-delimited JSON", description = "One ClientDTO per line. Clients are inserted or updated by CPF; invalid and duplicate rows are reported and skipped.")
+	public ResponseEntity<ImportReportDTO> importNdjson(InputStream body) throws IOException {
+		return ResponseEntity.ok(importClients.importNdjson(body));
+	}
+
 	@PutMapping
 	@Operation(summary = "Updates a Client")
 	public ResponseEntity<ClientDTO> update(@RequestBody @Valid ClientDTO clientDto) {
@@ -0,0 +1,187 @@
+package br.com.eaugusto.onlineselling.usecase;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import br.com.eaugusto.onlineselling.domain.Client;
+import br.com.eaugusto.onlineselling.dto.ClientDTO;
+import br.com.eaugusto.onlineselling.dto.ImportErrorDTO;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Use case service for importing many clients in one request.
+ * <p>
+ * The body is newline-delimited JSON, one {@link ClientDTO} per line, and is
+ * read one line at a time. Each row is validated with the {@link ClientDTO}
+ * constraints and clients are upserted by CPF in unordered bulk writes of a
+ * configured size, so one round trip is made per batch instead of one per
+ * client. Ids in the body are ignored.
+ * </p>
+ *
+ * <p>
+ * Rows that cannot be parsed, fail validation or collide with the unique email
+ * of another client are reported in the summary instead of being thrown, and
+ * the import goes on. When a CPF repeats, the later row wins: the pending batch
+ * is written before the repeated CPF is queued, since an unordered batch does
+ * not apply its writes in order.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Slf4j
+public class ImportClients {
+
+	private final MongoTemplate mongoTemplate;
+	private final Validator validator;
+	private final ObjectReader jsonReader;
+	private final int batchSize;
+	private final int maxReportedErrors;
+
+	public ImportClients(MongoTemplate mongoTemplate, Validator validator, ObjectMapper objectMapper,
+			@Value("${application.client.import.batchSize:1000}") int batchSize,
+			@Value("${application.client.import.maxReportedErrors:1000}") int maxReportedErrors) {
+		this.mongoTemplate = mongoTemplate;
+		this.validator = validator;
+		this.jsonReader = objectMapper.readerFor(ClientDTO.class);
+		this.batchSize = Math.max(1, batchSize);
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	/**
+	 * Imports clients from newline-delimited JSON, one client per line.
+	 *
+	 * @param body the request body
+	 * @return the import report
+	 * @throws IOException if the body cannot be read
+	 */
+	public ImportReportDTO importNdjson(InputStream body) throws IOException {
+		Report report = new Report(maxReportedErrors);
+		Map<String, Row> batch = new LinkedHashMap<>();
+		long rowNumber = 0;
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				rowNumber++;
+				if (line.isBlank()) {
+					continue;
+				}
+				report.received++;
+				ClientDTO client;
+				try {
+					client = jsonReader.readValue(line);
+				} catch (JsonProcessingException ex) {
+					report.reject(rowNumber, null, "Malformed row: " + ex.getOriginalMessage());
+					continue;
+				}
+				Set<ConstraintViolation<ClientDTO>> violations = validator.validate(client);
+				if (!violations.isEmpty()) {
+					report.reject(rowNumber, client.getCpf(), violations.stream()
+							.map(violation -> violation.getPropertyPath() + " " + violation.getMessage()).sorted()
+							.collect(Collectors.joining(", ")));
+					continue;
+				}
+				if (batch.containsKey(client.getCpf())) {
+					write(batch, report);
+				}
+				batch.put(client.getCpf(), new Row(rowNumber, client));
+				if (batch.size() >= batchSize) {
+					write(batch, report);
+				}
+			}
+		}
+		write(batch, report);
+		log.info("Imported clients: {} received, {} inserted, {} updated, {} failed", report.received,
+				report.inserted, report.updated, report.failed);
+		return report.toDto();
+	}
+
+	private void write(Map<String, Row> batch, Report report) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<Row> rows = new ArrayList<>(batch.values());
+		batch.clear();
+		BulkOperations operations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Client.class);
+		for (Row row : rows) {
+			ClientDTO client = row.client();
+			operations.upsert(Query.query(where("cpf").is(client.getCpf())),
+					Update.update("name", client.getName()).set("telephoneNumber", client.getTelephoneNumber())
+							.set("email", client.getEmail()).set("address", client.getAddress())
+							.set("addressNumber", client.getAddressNumber()).set("city", client.getCity())
+							.set("state", client.getState()));
+		}
+		try {
+			report.written(operations.execute());
+		} catch (BulkOperationException ex) {
+			report.written(ex.getResult());
+			for (BulkWriteError error : ex.getErrors()) {
+				Row row = rows.get(error.getIndex());
+				report.reject(row.number(), row.client().getCpf(), error.getMessage());
+			}
+		}
+	}
+
+	private record Row(long number, ClientDTO client) {
+	}
+
+	private static final class Report {
+
+		private final int maxReportedErrors;
+		private final List<ImportErrorDTO> errors = new ArrayList<>();
+		private long received;
+		private long inserted;
+		private long updated;
+		private long failed;
+
+		private Report(int maxReportedErrors) {
+			this.maxReportedErrors = maxReportedErrors;
+		}
+
+		private void reject(long row, String cpf, String message) {
+			failed++;
+			if (errors.size() < maxReportedErrors) {
+				errors.add(new ImportErrorDTO(row, cpf, message));
+			}
+		}
+
+		private void written(BulkWriteResult result) {
+			inserted += result.getUpserts().size();
+			updated += result.getMatchedCount();
+		}
+
+		private ImportReportDTO toDto() {
+			return new ImportReportDTO(received, inserted, updated, failed, List.copyOf(errors));
+		}
+	}
+}
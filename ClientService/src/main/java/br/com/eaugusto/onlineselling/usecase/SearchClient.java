@@ -1,22 +1,35 @@
 package br.com.eaugusto.onlineselling.usecase;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import br.com.eaugusto.onlineselling.domain.Client;
 import br.com.eaugusto.onlineselling.dto.ClientDTO;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
 import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.repository.IClientRepository.ClientId;
 import br.com.eaugusto.onlineselling.repository.IClientRepository;
 
 /**
  * Use case service for searching and retrieving client information.
  * <p>
- * Provides paginated search for all clients, lookup by ID, CPF, and existence
- * check. Converts {@link Client} entities to {@link ClientDTO} for API
- * responses.
+ * Provides paginated, count-free and cursor-based search for all clients,
+ * lookup by ID, CPF, and single or batch existence checks. Converts
+ * {@link Client} entities to {@link ClientDTO} for API responses.
  * </p>
  *
  * <p>
@@ -30,16 +43,57 @@ import br.com.eaugusto.onlineselling.repository.IClientRepository;
 @Service
 public class SearchClient {
 
+	private static final Sort SCROLL_SORT = Sort.by("id");
+
 	private final IClientRepository clientRepository;
+	private final TotalCounter totalCounter;
+	private final int maxBatchSize;
+	private final int maxScrollSize;
 
-	public SearchClient(IClientRepository clientRepository) {
+	public SearchClient(IClientRepository clientRepository, TotalCounter totalCounter,
+			@Value("${application.client.maxBatchSize:10000}") int maxBatchSize,
+			@Value("${application.client.maxScrollSize:1000}") int maxScrollSize) {
 		this.clientRepository = clientRepository;
+		this.totalCounter = totalCounter;
+		this.maxBatchSize = maxBatchSize;
+		this.maxScrollSize = maxScrollSize;
 	}
 
 	public Page<ClientDTO> searchAllClients(Pageable pageable) {
 		return clientRepository.findAll(pageable).map(this::toDto);
 	}
 
+	/**
+	 * Retrieves one page of clients without counting the collection on every
+	 * request.
+	 *
+	 * @param pageable    pagination information
+	 * @param totalSource how the total is obtained, if at all
+	 * @return the clients of the page and whether a next page exists
+	 */
+	public SliceDTO<ClientDTO> sliceAllClients(Pageable pageable, TotalSource totalSource) {
+		Slice<ClientDTO> slice = clientRepository.findAllBy(pageable).map(this::toDto);
+		return SliceDTO.of(slice, totalCounter.total(Client.class, totalSource), totalSource);
+	}
+
+	/**
+	 * Retrieves one window of clients in id order. Each window continues
+	 * after the last id of the previous one, so no documents are skipped or
+	 * counted.
+	 *
+	 * @param cursor the cursor returned with the previous window, or
+	 *               {@code null} for the first window
+	 * @param size   the maximum number of clients
+	 * @return the clients and the cursor of the next window
+	 * @throws BadRequestException if the cursor is invalid or the size is out of
+	 *                             range
+	 */
+	public CursorPageDTO<ClientDTO> scrollAllClients(String cursor, int size) {
+		Window<Client> window = clientRepository.findAllBy(ScrollCursor.position(cursor, SCROLL_SORT),
+				ScrollCursor.limit(size, maxScrollSize), SCROLL_SORT);
+		return new CursorPageDTO<>(window.getContent().stream().map(this::toDto).toList(), ScrollCursor.next(window));
+	}
+
 	public ClientDTO searchById(String id) {
 		Client client = clientRepository.findById(id)
 				.orElseThrow(() -> new EntityNotFoundException(Client.class, "id", id));
@@ -47,8 +101,31 @@ public class SearchClient {
 	}
 
 	public Boolean isRegistered(String id) {
-		Optional<Client> client = clientRepository.findById(id);
-		return client.isPresent();
+		return clientRepository.existsById(id);
+	}
+
+	/**
+	 * Checks many client ids with one query.
+	 *
+	 * @param ids the client ids
+	 * @return every distinct requested id mapped to whether it is registered, in
+	 *         request order
+	 * @throws BadRequestException if more than the configured maximum of ids is
+	 *                             requested
+	 */
+	public Map<String, Boolean> areRegistered(Collection<String> ids) {
+		Map<String, Boolean> registered = new LinkedHashMap<>();
+		ids.stream().filter(Objects::nonNull).forEach(id -> registered.put(id, Boolean.FALSE));
+		if (registered.isEmpty()) {
+			return registered;
+		}
+		if (registered.size() > maxBatchSize) {
+			throw new BadRequestException("At most " + maxBatchSize + " client ids can be checked at once");
+		}
+		try (Stream<ClientId> found = clientRepository.findByIdIn(registered.keySet())) {
+			found.forEach(client -> registered.put(client.getId(), Boolean.TRUE));
+		}
+		return registered;
 	}
 
 	public ClientDTO searchByCpf(String cpf) {
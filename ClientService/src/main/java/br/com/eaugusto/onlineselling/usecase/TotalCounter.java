@@ -0,0 +1,97 @@
+package br.com.eaugusto.onlineselling.usecase;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Provides collection totals for listings that do not count on every request.
+ * <p>
+ * Estimated totals come from the collection metadata and cost no scan. Cached
+ * totals are exact counts kept per entity type: the first request counts, and
+ * once a count is older than the refresh interval the next request starts a
+ * recount on a virtual thread and keeps returning the previous value until it
+ * completes. At most one recount per entity type runs at a time.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+@Slf4j
+public class TotalCounter {
+
+	private final MongoTemplate mongoTemplate;
+	private final Duration refreshInterval;
+	private final Clock clock;
+	private final Map<Class<?>, CachedTotal> totals = new ConcurrentHashMap<>();
+	private final Set<Class<?>> refreshing = ConcurrentHashMap.newKeySet();
+
+	@Autowired
+	public TotalCounter(MongoTemplate mongoTemplate,
+			@Value("${application.client.cachedTotalRefresh:1m}") Duration refreshInterval) {
+		this(mongoTemplate, refreshInterval, Clock.systemUTC());
+	}
+
+	public TotalCounter(MongoTemplate mongoTemplate, Duration refreshInterval, Clock clock) {
+		this.mongoTemplate = mongoTemplate;
+		this.refreshInterval = refreshInterval;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the total number of documents of an entity type.
+	 *
+	 * @param entityClass the entity type
+	 * @param source      how the total is obtained
+	 * @return the total, or {@code null} for {@link TotalSource#NONE}
+	 */
+	public Long total(Class<?> entityClass, TotalSource source) {
+		return switch (source) {
+		case NONE -> null;
+		case ESTIMATED -> mongoTemplate.estimatedCount(entityClass);
+		case CACHED -> cached(entityClass);
+		};
+	}
+
+	private long cached(Class<?> entityClass) {
+		CachedTotal total = totals.get(entityClass);
+		if (total == null) {
+			return totals.computeIfAbsent(entityClass, this::count).value();
+		}
+		if (clock.instant().isAfter(total.countedAt().plus(refreshInterval)) && refreshing.add(entityClass)) {
+			Thread.ofVirtual().name("total-refresh-" + entityClass.getSimpleName()).start(() -> refresh(entityClass));
+		}
+		return total.value();
+	}
+
+	private void refresh(Class<?> entityClass) {
+		try {
+			totals.put(entityClass, count(entityClass));
+		} catch (RuntimeException ex) {
+			log.warn("Could not refresh the total of {}, keeping the previous one", entityClass.getSimpleName(), ex);
+		} finally {
+			refreshing.remove(entityClass);
+		}
+	}
+
+	private CachedTotal count(Class<?> entityClass) {
+		Instant countedAt = clock.instant();
+		return new CachedTotal(mongoTemplate.count(new Query(), entityClass), countedAt);
+	}
+
+	private record CachedTotal(long value, Instant countedAt) {
+	}
+}
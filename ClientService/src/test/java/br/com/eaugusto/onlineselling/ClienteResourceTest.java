@@ -1,13 +1,17 @@
 package br.com.eaugusto.onlineselling;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +25,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 
 import br.com.eaugusto.onlineselling.dto.ClientDTO;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
 import br.com.eaugusto.onlineselling.resources.ClientResource;
 import br.com.eaugusto.onlineselling.usecase.RegisterClient;
 import br.com.eaugusto.onlineselling.usecase.SearchClient;
@@ -121,6 +128,41 @@ class ClienteResourceTest {
 		assertClientEquals(client2, body.getContent().get(1));
 	}
 
+	@Test
+	void scrollAllClients() {
+		ClientDTO client1 = createClient();
+		ClientDTO client2 = createClient();
+
+		when(searchClient.scrollAllClients("cursor", 2))
+				.thenReturn(new CursorPageDTO<>(List.of(client1, client2), "next"));
+		when(searchClient.scrollAllClients("next", 2)).thenReturn(new CursorPageDTO<>(List.of(), null));
+
+		CursorPageDTO<ClientDTO> first = clienteResource.scrollAllClients("cursor", 2).getBody();
+		CursorPageDTO<ClientDTO> last = clienteResource.scrollAllClients(first.getNextCursor(), 2).getBody();
+
+		assertEquals(2, first.getContent().size());
+		assertClientEquals(client1, first.getContent().get(0));
+		assertTrue(last.getContent().isEmpty());
+		assertNull(last.getNextCursor());
+	}
+
+	@Test
+	void sliceAllClients() {
+		ClientDTO client = createClient();
+		PageRequest pageable = PageRequest.of(0, 1);
+
+		when(searchClient.sliceAllClients(pageable, TotalSource.CACHED))
+				.thenReturn(new SliceDTO<>(List.of(client), 0, 1, false, 1L, TotalSource.CACHED));
+
+		SliceDTO<ClientDTO> slice = clienteResource.sliceAllClients(pageable, TotalSource.CACHED).getBody();
+
+		assertNotNull(slice);
+		assertClientEquals(client, slice.getContent().get(0));
+		assertFalse(slice.isHasNext());
+		assertEquals(1L, slice.getTotalElements());
+		assertEquals(TotalSource.CACHED, slice.getTotalSource());
+	}
+
 	@Test
 	void searchByCpf() {
 		ClientDTO clientDto = createClient();
@@ -144,6 +186,22 @@ class ClienteResourceTest {
 		assertTrue(isRegistered);
 	}
 
+	@Test
+	void areRegistered() {
+		List<String> ids = List.of("1", "2");
+		Map<String, Boolean> registered = new LinkedHashMap<>();
+		registered.put("1", Boolean.TRUE);
+		registered.put("2", Boolean.FALSE);
+
+		when(searchClient.areRegistered(ids)).thenReturn(registered);
+
+		ResponseEntity<Map<String, Boolean>> response = clienteResource.areRegistered(ids);
+		Map<String, Boolean> body = response.getBody();
+
+		assertNotNull(body);
+		assertEquals(registered, body);
+	}
+
 	@Test
 	void registerClient() {
 		ClientDTO inputDto = createClient();
@@ -0,0 +1,128 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import br.com.eaugusto.onlineselling.domain.Client;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
+import br.com.eaugusto.onlineselling.usecase.ImportClients;
+import jakarta.validation.Validation;
+
+/**
+ * Unit tests for the {@link ImportClients} use case.
+ * <p>
+ * Verifies that rows are upserted by CPF in batches, and that malformed,
+ * invalid and duplicate rows are collected into the report instead of stopping
+ * the import.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ImportClientsTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	private final BulkOperations bulkOperations = mock(BulkOperations.class);
+
+	private ImportClients importClients;
+
+	private InputStream body(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String json(String cpf, String email) {
+		return "{\"name\":\"Client\",\"cpf\":\"" + cpf + "\",\"telephoneNumber\":\"11999999999\",\"email\":\"" + email
+				+ "\",\"address\":\"Street\",\"addressNumber\":10,\"city\":\"City\",\"state\":\"SP\"}";
+	}
+
+	private BulkWriteResult result(int inserted, int matched) {
+		List<BulkWriteUpsert> upserts = IntStream.range(0, inserted)
+				.mapToObj(index -> new BulkWriteUpsert(index, new BsonString("id-" + index))).toList();
+		return BulkWriteResult.acknowledged(0, matched, 0, matched, upserts, List.of());
+	}
+
+	@BeforeEach
+	void setup() {
+		importClients = new ImportClients(mongoTemplate,
+				Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), 2, 10);
+		when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Client.class)).thenReturn(bulkOperations);
+	}
+
+	@Test
+	void rowsAreUpsertedByCpfInBatches() throws IOException {
+		when(bulkOperations.execute()).thenReturn(result(2, 0), result(0, 1));
+
+		ImportReportDTO report = importClients.importNdjson(
+				body(json("111", "a@mail.com"), json("222", "b@mail.com"), "", json("333", "c@mail.com")));
+
+		assertEquals(3, report.getReceived());
+		assertEquals(2, report.getInserted());
+		assertEquals(1, report.getUpdated());
+		assertEquals(0, report.getFailed());
+		verify(bulkOperations, times(3)).upsert(any(Query.class), any(Update.class));
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	void malformedAndInvalidRowsAreReported() throws IOException {
+		when(bulkOperations.execute()).thenReturn(result(1, 0));
+
+		ImportReportDTO report = importClients
+				.importNdjson(body("not json", json("111", "invalid"), json("222", "b@mail.com")));
+
+		assertEquals(1, report.getInserted());
+		assertEquals(2, report.getFailed());
+		assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed row"));
+		assertEquals("111", report.getErrors().get(1).getCpf());
+		assertEquals("email Invalid Email", report.getErrors().get(1).getMessage());
+	}
+
+	@Test
+	void duplicateEmailsAreReportedInsteadOfThrown() throws IOException {
+		BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key error index: email",
+				new BsonDocument(), 1);
+		when(bulkOperations.execute()).thenThrow(new BulkOperationException("bulk write failed",
+				new MongoBulkWriteException(result(1, 0), List.of(duplicate), null, new ServerAddress(), Set.of())));
+
+		ImportReportDTO report = importClients
+				.importNdjson(body(json("111", "a@mail.com"), json("222", "a@mail.com")));
+
+		assertEquals(1, report.getInserted());
+		assertEquals(1, report.getFailed());
+		assertEquals(2, report.getErrors().get(0).getRow());
+		assertEquals("222", report.getErrors().get(0).getCpf());
+	}
+}
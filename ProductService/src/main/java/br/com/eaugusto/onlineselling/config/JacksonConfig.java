@@ -0,0 +1,31 @@
+package br.com.eaugusto.onlineselling.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Configuration of the {@code ObjectMapper} shared by the web layer and the
+ * HTTP clients.
+ * <p>
+ * Setting {@code application.json.blackbird} to {@code true} registers the
+ * Jackson Blackbird module, which replaces reflective getter, setter and
+ * constructor calls with generated lambdas. It is off by default; the
+ * {@code JsonBenchmark} of the benchmark profile compares both modes.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Configuration
+public class JacksonConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "application.json.blackbird", havingValue = "true")
+	Module blackbirdModule() {
+		return new BlackbirdModule();
+	}
+}
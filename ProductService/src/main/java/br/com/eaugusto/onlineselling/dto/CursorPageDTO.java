@@ -0,0 +1,34 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data transfer object representing one window of a cursor-based listing.
+ * <p>
+ * Holds the elements of the window and the opaque cursor that continues right
+ * after the last of them. The cursor is {@code null} on the last window. No
+ * total is included, so listing never needs a count query.
+ * </p>
+ *
+ * @param <T> the type of the listed elements
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPageDTO<T> {
+
+	/**
+	 * Elements of this window, in sort order.
+	 */
+	private final List<T> content;
+
+	/**
+	 * Cursor of the next window, or {@code null} if there is none.
+	 */
+	private final String nextCursor;
+}
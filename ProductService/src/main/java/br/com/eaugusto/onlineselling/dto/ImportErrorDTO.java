@@ -0,0 +1,30 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data transfer object describing one row that a bulk import could not write.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@AllArgsConstructor
+public class ImportErrorDTO {
+
+	/**
+	 * One-based line number of the row in the imported body.
+	 */
+	private final long row;
+
+	/**
+	 * Code of the rejected row, or {@code null} if it could not be read.
+	 */
+	private final String code;
+
+	/**
+	 * Why the row was rejected.
+	 */
+	private final String message;
+}
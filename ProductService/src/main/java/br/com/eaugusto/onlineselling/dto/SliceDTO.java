@@ -0,0 +1,62 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data transfer object representing one page of a listing that is read without
+ * a count query.
+ * <p>
+ * Only tells whether a next page exists. A total is included on request, and
+ * {@link #getTotalSource()} tells how it was obtained.
+ * </p>
+ *
+ * @param <T> the type of the listed elements
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@AllArgsConstructor
+public class SliceDTO<T> {
+
+	/**
+	 * Elements of this page.
+	 */
+	private final List<T> content;
+
+	/**
+	 * Zero-based number of this page.
+	 */
+	private final int number;
+
+	/**
+	 * Requested page size.
+	 */
+	private final int size;
+
+	/**
+	 * Whether at least one more element follows this page.
+	 */
+	private final boolean hasNext;
+
+	/**
+	 * Total number of elements, or {@code null} when no total was requested.
+	 */
+	private final Long totalElements;
+
+	/**
+	 * Where {@link #totalElements} comes from.
+	 */
+	private final TotalSource totalSource;
+
+	public static <T> SliceDTO<T> of(Slice<T> slice, Long totalElements, TotalSource totalSource) {
+		return new SliceDTO<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext(), totalElements,
+				totalSource);
+	}
+}
@@ -1,8 +1,17 @@
 package br.com.eaugusto.onlineselling.repository;
 
+import java.util.Collection;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.eaugusto.onlineselling.domain.Product;
@@ -10,8 +19,8 @@ import br.com.eaugusto.onlineselling.domain.Product;
 /**
  * Repository interface for managing {@link Product} entities in MongoDB.
  * <p>
- * Extends {@link MongoRepository} to provide basic CRUD operations and adds a
- * custom query method for searching a product by Code.
+ * Extends {@link MongoRepository} to provide basic CRUD operations and adds
+ * custom query methods for searching products by Code.
  * </p>
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -21,4 +30,27 @@ import br.com.eaugusto.onlineselling.domain.Product;
 public interface IProductRepository extends MongoRepository<Product, String> {
 
 	Optional<Product> searchByCode(String code);
+
+	/**
+	 * Finds every product whose code is in the given collection with a single
+	 * {@code $in} query on the unique code index. The stream is backed by the
+	 * MongoDB cursor and must be closed.
+	 *
+	 * @param codes the product codes
+	 * @return the matching products
+	 */
+	Stream<Product> findByCodeIn(Collection<String> codes);
+
+	/**
+	 * Reads one page without counting the collection. One extra product is
+	 * fetched to tell whether a next page exists.
+	 */
+	Slice<Product> findAllBy(Pageable pageable);
+
+	/**
+	 * Reads one keyset window. The explicit empty filter works around derived
+	 * queries without criteria, whose filter cannot take the keyset condition.
+	 */
+	@Query("{}")
+	Window<Product> findAllBy(ScrollPosition position, Limit limit, Sort sort);
 }
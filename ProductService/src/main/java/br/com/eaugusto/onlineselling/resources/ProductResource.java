@@ -1,7 +1,12 @@
 package br.com.eaugusto.onlineselling.resources;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,9 +15,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
 import br.com.eaugusto.onlineselling.dto.ProductDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.usecase.ImportProducts;
 import br.com.eaugusto.onlineselling.usecase.RegisterProduct;
 import br.com.eaugusto.onlineselling.usecase.SearchProduct;
 import io.swagger.v3.oas.annotations.Operation;
@@ -21,9 +33,9 @@ import jakarta.validation.Valid;
 /**
  * REST controller exposing endpoints for managing products.
  * <p>
- * Provides CRUD operations, search capabilities by ID or CPF, and an endpoint
- * to verify if a product is registered. Uses {@link SearchProduct} for read
- * operations and {@link RegisterProduct} for write operations.
+ * Provides CRUD operations, bulk import, search capabilities by ID or CPF, and
+ * an endpoint to verify if a product is registered. Uses {@link SearchProduct}
+ * for read operations and {@link RegisterProduct} for write operations.
  * </p>
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -35,10 +47,13 @@ public class ProductResource {
 
 	private final SearchProduct searchProduct;
 	private final RegisterProduct registerProduct;
+	private final ImportProducts importProducts;
 
-	public ProductResource(SearchProduct searchProduct, RegisterProduct registerProduct) {
+	public ProductResource(SearchProduct searchProduct, RegisterProduct registerProduct,
+			ImportProducts importProducts) {
 		this.searchProduct = searchProduct;
 		this.registerProduct = registerProduct;
+		this.importProducts = importProducts;
 	}
 
 	@GetMapping
@@ -47,6 +62,20 @@ public class ProductResource {
 		return ResponseEntity.ok(searchProduct.searchAllProducts(pageable));
 	}
 
+	@GetMapping(value = "/slice")
+	@Operation(summary = "Searches all Products without counting them", description = "Returns hasNext instead of a page count. Pass total=ESTIMATED or total=CACHED to include an approximate total; totalSource tells which one was used.")
+	public ResponseEntity<SliceDTO<ProductDTO>> sliceAllProducts(Pageable pageable,
+			@RequestParam(defaultValue = "NONE") TotalSource total) {
+		return ResponseEntity.ok(searchProduct.sliceAllProducts(pageable, total));
+	}
+
+	@GetMapping(value = "/scroll")
+	@Operation(summary = "Searches all Products with a cursor", description = "Pass the returned nextCursor as cursor to read the next window; it is null on the last window.")
+	public ResponseEntity<CursorPageDTO<ProductDTO>> scrollAllProducts(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int size) {
+		return ResponseEntity.ok(searchProduct.scrollAllProducts(cursor, size));
+	}
+
 	@GetMapping(value = "/{id}")
 	@Operation(summary = "Searches a Product by Id")
 	public ResponseEntity<ProductDTO> searchById(@PathVariable String id) {
@@ -71,6 +100,24 @@ public class ProductResource {
 		return ResponseEntity.ok(searchProduct.searchByCode(code));
 	}
 
+	@PostMapping(value = "/codes", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(summary = "Searches Products by a list of Codes", description = "Streams the products found as a JSON array; unknown codes are left out.")
+	public ResponseEntity<StreamingResponseBody> searchByCodes(@RequestBody List<String> codes) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(searchProduct.searchByCodes(codes));
+	}
+
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Imports Products from newline-delimited JSON", description = "One ProductDTO per line. Products are inserted or updated by code; invalid rows are reported and skipped.")
+	public ResponseEntity<ImportReportDTO> importNdjson(InputStream body) throws IOException {
+		return ResponseEntity.ok(importProducts.importNdjson(body));
+	}
+
+	@PostMapping(value = "/import", consumes = "text/csv")
+	@Operation(summary = "Imports Products from CSV", description = "A header row naming code, name, description, price and status, then one product per line. Products are inserted or updated by code; invalid rows are reported and skipped.")
+	public ResponseEntity<ImportReportDTO> importCsv(InputStream body) throws IOException {
+		return ResponseEntity.ok(importProducts.importCsv(body));
+	}
+
 	@PutMapping
 	@Operation(summary = "Updates a Product")
 	public ResponseEntity<ProductDTO> update(@RequestBody @Valid ProductDTO productDto) {
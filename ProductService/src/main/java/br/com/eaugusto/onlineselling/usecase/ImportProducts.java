@@ -0,0 +1,228 @@
+package br.com.eaugusto.onlineselling.usecase;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.dto.ImportErrorDTO;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
+import br.com.eaugusto.onlineselling.dto.ProductDTO;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Use case service for importing many products in one request.
+ * <p>
+ * The body is read one line at a time, either as newline-delimited JSON or as
+ * CSV with a header row naming the {@link ProductDTO} fields. Each row is
+ * validated with the {@link ProductDTO} constraints and products are upserted
+ * by code in unordered bulk writes of a configured size, so the whole catalog is
+ * never held in memory and one round trip is made per batch. Ids in the body
+ * are ignored.
+ * </p>
+ *
+ * <p>
+ * Rows that cannot be parsed, fail validation or are rejected by the database
+ * are reported without stopping the import. When a code repeats, the later row
+ * wins: the pending batch is written before the repeated code is queued, since
+ * an unordered batch does not apply its writes in order.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Slf4j
+public class ImportProducts {
+
+	private static final List<String> CSV_COLUMNS = List.of("code", "name", "description", "price", "status");
+
+	private final MongoTemplate mongoTemplate;
+	private final Validator validator;
+	private final ObjectReader jsonReader;
+	private final CsvMapper csvMapper = CsvMapper.builder().enable(CsvParser.Feature.EMPTY_STRING_AS_NULL).build();
+	private final int batchSize;
+	private final int maxReportedErrors;
+
+	public ImportProducts(MongoTemplate mongoTemplate, Validator validator, ObjectMapper objectMapper,
+			@Value("${application.product.import.batchSize:1000}") int batchSize,
+			@Value("${application.product.import.maxReportedErrors:1000}") int maxReportedErrors) {
+		this.mongoTemplate = mongoTemplate;
+		this.validator = validator;
+		this.jsonReader = objectMapper.readerFor(ProductDTO.class);
+		this.batchSize = Math.max(1, batchSize);
+		this.maxReportedErrors = maxReportedErrors;
+	}
+
+	/**
+	 * Imports products from newline-delimited JSON, one product per line.
+	 *
+	 * @param body the request body
+	 * @return the import report
+	 * @throws IOException if the body cannot be read
+	 */
+	public ImportReportDTO importNdjson(InputStream body) throws IOException {
+		try (BufferedReader reader = reader(body)) {
+			return importRows(reader, 0, jsonReader);
+		}
+	}
+
+	/**
+	 * Imports products from CSV. The first line names the columns, which must be
+	 * among {@code code}, {@code name}, {@code description}, {@code price} and
+	 * {@code status}; each following line holds one product.
+	 *
+	 * @param body the request body
+	 * @return the import report
+	 * @throws IOException         if the body cannot be read
+	 * @throws BadRequestException if the header is missing or names an unknown
+	 *                             column
+	 */
+	public ImportReportDTO importCsv(InputStream body) throws IOException {
+		try (BufferedReader reader = reader(body)) {
+			String header = reader.readLine();
+			if (header == null || header.isBlank()) {
+				throw new BadRequestException("CSV header row is missing");
+			}
+			List<String> columns = Arrays.stream(header.replace("\uFEFF", "").split(",")).map(String::trim).toList();
+			if (!CSV_COLUMNS.containsAll(columns)) {
+				throw new BadRequestException("CSV columns must be among " + CSV_COLUMNS + ", got " + columns);
+			}
+			CsvSchema schema = CsvSchema.builder().addColumns(columns, CsvSchema.ColumnType.STRING).build();
+			return importRows(reader, 1, csvMapper.readerFor(ProductDTO.class).with(schema));
+		}
+	}
+
+	private BufferedReader reader(InputStream body) {
+		return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+	}
+
+	private ImportReportDTO importRows(BufferedReader reader, long rowOffset, ObjectReader rowReader)
+			throws IOException {
+		Report report = new Report(maxReportedErrors);
+		Map<String, Row> batch = new LinkedHashMap<>();
+		long rowNumber = rowOffset;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			rowNumber++;
+			if (line.isBlank()) {
+				continue;
+			}
+			report.received++;
+			ProductDTO product;
+			try {
+				product = rowReader.readValue(line);
+			} catch (JsonProcessingException ex) {
+				report.reject(rowNumber, null, "Malformed row: " + ex.getOriginalMessage());
+				continue;
+			}
+			Set<ConstraintViolation<ProductDTO>> violations = validator.validate(product);
+			if (!violations.isEmpty()) {
+				report.reject(rowNumber, product.getCode(), violations.stream()
+						.map(violation -> violation.getPropertyPath() + " " + violation.getMessage()).sorted()
+						.collect(Collectors.joining(", ")));
+				continue;
+			}
+			if (batch.containsKey(product.getCode())) {
+				write(batch, report);
+			}
+			batch.put(product.getCode(), new Row(rowNumber, product));
+			if (batch.size() >= batchSize) {
+				write(batch, report);
+			}
+		}
+		write(batch, report);
+		log.info("Imported products: {} received, {} inserted, {} updated, {} failed", report.received,
+				report.inserted, report.updated, report.failed);
+		return report.toDto();
+	}
+
+	private void write(Map<String, Row> batch, Report report) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<Row> rows = new ArrayList<>(batch.values());
+		batch.clear();
+		BulkOperations operations = mongoTemplate.bulkOps(BulkMode.UNORDERED, Product.class);
+		for (Row row : rows) {
+			ProductDTO product = row.product();
+			operations.upsert(Query.query(where("code").is(product.getCode())),
+					Update.update("name", product.getName()).set("description", product.getDescription())
+							.set("price", product.getPrice()).set("status", product.getStatus()));
+		}
+		try {
+			report.written(operations.execute());
+		} catch (BulkOperationException ex) {
+			report.written(ex.getResult());
+			for (BulkWriteError error : ex.getErrors()) {
+				Row row = rows.get(error.getIndex());
+				report.reject(row.number(), row.product().getCode(), error.getMessage());
+			}
+		}
+	}
+
+	private record Row(long number, ProductDTO product) {
+	}
+
+	private static final class Report {
+
+		private final int maxReportedErrors;
+		private final List<ImportErrorDTO> errors = new ArrayList<>();
+		private long received;
+		private long inserted;
+		private long updated;
+		private long failed;
+
+		private Report(int maxReportedErrors) {
+			this.maxReportedErrors = maxReportedErrors;
+		}
+
+		private void reject(long row, String code, String message) {
+			failed++;
+			if (errors.size() < maxReportedErrors) {
+				errors.add(new ImportErrorDTO(row, code, message));
+			}
+		}
+
+		private void written(BulkWriteResult result) {
+			inserted += result.getUpserts().size();
+			updated += result.getMatchedCount();
+		}
+
+		private ImportReportDTO toDto() {
+			return new ImportReportDTO(received, inserted, updated, failed, List.copyOf(errors));
+		}
+	}
+}
@@ -1,22 +1,43 @@
 package br.com.eaugusto.onlineselling.usecase;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
 import br.com.eaugusto.onlineselling.dto.ProductDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
 import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
 import br.com.eaugusto.onlineselling.repository.IProductRepository;
 
 /**
  * Use case service for searching and retrieving product information.
  * <p>
- * Provides paginated search for all products, lookup by ID, CPF, and existence
- * check. Converts {@link Product} entities to {@link ProductDTO} for API
- * responses.
+ * Provides paginated, count-free and cursor-based search for all products,
+ * lookup by ID, CPF, batch lookup by code, and existence check. Converts
+ * {@link Product} entities to {@link ProductDTO} for API responses. Batch
+ * lookups are written to the response straight from the MongoDB cursor.
  * </p>
  *
  * <p>
@@ -30,16 +51,60 @@ import br.com.eaugusto.onlineselling.repository.IProductRepository;
 @Service
 public class SearchProduct {
 
+	private static final Sort SCROLL_SORT = Sort.by("id");
+
 	private final IProductRepository productRepository;
+	private final TotalCounter totalCounter;
+	private final ObjectWriter productWriter;
+	private final int maxBatchSize;
+	private final int maxScrollSize;
 
-	public SearchProduct(IProductRepository productRepository) {
+	public SearchProduct(IProductRepository productRepository, TotalCounter totalCounter, ObjectMapper objectMapper,
+			@Value("${application.product.maxBatchSize:1000}") int maxBatchSize,
+			@Value("${application.product.maxScrollSize:1000}") int maxScrollSize) {
 		this.productRepository = productRepository;
+		this.totalCounter = totalCounter;
+		this.productWriter = objectMapper.writerFor(ProductDTO.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.maxBatchSize = maxBatchSize;
+		this.maxScrollSize = maxScrollSize;
 	}
 
 	public Page<ProductDTO> searchAllProducts(Pageable pageable) {
 		return productRepository.findAll(pageable).map(this::toDto);
 	}
 
+	/**
+	 * Retrieves one page of products without counting the collection on every
+	 * request.
+	 *
+	 * @param pageable    pagination information
+	 * @param totalSource how the total is obtained, if at all
+	 * @return the products of the page and whether a next page exists
+	 */
+	public SliceDTO<ProductDTO> sliceAllProducts(Pageable pageable, TotalSource totalSource) {
+		Slice<ProductDTO> slice = productRepository.findAllBy(pageable).map(this::toDto);
+		return SliceDTO.of(slice, totalCounter.total(Product.class, totalSource), totalSource);
+	}
+
+	/**
+	 * Retrieves one window of products in id order. Each window continues
+	 * after the last id of the previous one, so no documents are skipped or
+	 * counted.
+	 *
+	 * @param cursor the cursor returned with the previous window, or
+	 *               {@code null} for the first window
+	 * @param size   the maximum number of products
+	 * @return the products and the cursor of the next window
+	 * @throws BadRequestException if the cursor is invalid or the size is out of
+	 *                             range
+	 */
+	public CursorPageDTO<ProductDTO> scrollAllProducts(String cursor, int size) {
+		Window<Product> window = productRepository.findAllBy(ScrollCursor.position(cursor, SCROLL_SORT),
+				ScrollCursor.limit(size, maxScrollSize), SCROLL_SORT);
+		return new CursorPageDTO<>(window.getContent().stream().map(this::toDto).toList(), ScrollCursor.next(window));
+	}
+
 	public ProductDTO searchById(String id) {
 		Product product = productRepository.findById(id)
 				.orElseThrow(() -> new EntityNotFoundException(Product.class, "id", id));
@@ -57,6 +122,42 @@ public class SearchProduct {
 		return toDto(product);
 	}
 
+	/**
+	 * Validates a batch of product codes and prepares their lookup. Duplicate
+	 * codes are looked up once and unknown codes are left out of the result.
+	 * Nothing is read until the returned body is written: the codes are then
+	 * resolved with one query, and each product is written to the JSON array as
+	 * it is read from the cursor.
+	 *
+	 * @param codes the product codes
+	 * @return the body writing the products found, in index order
+	 * @throws BadRequestException if more than the configured maximum of distinct
+	 *                             codes is requested
+	 */
+	public StreamingResponseBody searchByCodes(Collection<String> codes) {
+		Set<String> distinctCodes = new LinkedHashSet<>(codes);
+		distinctCodes.remove(null);
+		if (distinctCodes.size() > maxBatchSize) {
+			throw new BadRequestException("At most " + maxBatchSize + " product codes can be searched at once");
+		}
+		return out -> writeByCodes(distinctCodes, out);
+	}
+
+	private void writeByCodes(Set<String> codes, OutputStream out) throws IOException {
+		try (JsonGenerator generator = productWriter.createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.writeStartArray();
+			if (!codes.isEmpty()) {
+				try (Stream<Product> products = productRepository.findByCodeIn(codes)) {
+					for (Product product : (Iterable<Product>) products::iterator) {
+						productWriter.writeValue(generator, toDto(product));
+					}
+				}
+			}
+			generator.writeEndArray();
+		}
+	}
+
 	private ProductDTO toDto(Product product) {
 		return ProductDTO.builder().id(product.getId()).code(product.getCode()).name(product.getName())
 				.description(product.getDescription()).price(product.getPrice()).status(product.getStatus()).build();
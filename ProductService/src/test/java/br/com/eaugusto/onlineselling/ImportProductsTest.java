@@ -0,0 +1,169 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.dto.ImportReportDTO;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.usecase.ImportProducts;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Unit tests for the {@link ImportProducts} use case.
+ * <p>
+ * Verifies that NDJSON and CSV rows are upserted by code in batches, that
+ * malformed, invalid and database-rejected rows are reported without stopping
+ * the import, and that a repeated code is written after the earlier row.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ImportProductsTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	private final BulkOperations bulkOperations = mock(BulkOperations.class);
+
+	private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	private ImportProducts importProducts;
+
+	private InputStream body(String... lines) {
+		return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String json(String code) {
+		return "{\"code\":\"" + code + "\",\"name\":\"Product " + code
+				+ "\",\"description\":\"Description\",\"price\":10.5,\"status\":\"ACTIVE\"}";
+	}
+
+	private BulkWriteResult result(int inserted, int matched) {
+		List<BulkWriteUpsert> upserts = IntStream.range(0, inserted)
+				.mapToObj(index -> new BulkWriteUpsert(index, new BsonString("id-" + index))).toList();
+		return BulkWriteResult.acknowledged(0, matched, 0, matched, upserts, List.of());
+	}
+
+	@BeforeEach
+	void setup() {
+		importProducts = new ImportProducts(mongoTemplate, validator, new ObjectMapper(), 2, 10);
+		when(mongoTemplate.bulkOps(BulkMode.UNORDERED, Product.class)).thenReturn(bulkOperations);
+	}
+
+	@Test
+	void ndjsonRowsAreUpsertedInBatches() throws IOException {
+		when(bulkOperations.execute()).thenReturn(result(1, 1), result(1, 0));
+
+		ImportReportDTO report = importProducts.importNdjson(body(json("P001"), "", json("P002"), json("P003")));
+
+		assertEquals(3, report.getReceived());
+		assertEquals(2, report.getInserted());
+		assertEquals(1, report.getUpdated());
+		assertEquals(0, report.getFailed());
+		verify(bulkOperations, times(3)).upsert(any(Query.class), any(Update.class));
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	void invalidRowsAreReportedWithoutStoppingTheImport() throws IOException {
+		when(bulkOperations.execute()).thenReturn(result(1, 0));
+
+		ImportReportDTO report = importProducts.importNdjson(body("{not json", json("P"), json("P002")));
+
+		assertEquals(3, report.getReceived());
+		assertEquals(1, report.getInserted());
+		assertEquals(2, report.getFailed());
+		assertEquals(1, report.getErrors().get(0).getRow());
+		assertNull(report.getErrors().get(0).getCode());
+		assertTrue(report.getErrors().get(0).getMessage().startsWith("Malformed row"));
+		assertEquals(2, report.getErrors().get(1).getRow());
+		assertEquals("code size must be between 2 and 10", report.getErrors().get(1).getMessage());
+	}
+
+	@Test
+	void csvRowsAreMappedByHeader() throws IOException {
+		ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+		when(bulkOperations.execute()).thenReturn(result(1, 0));
+
+		ImportReportDTO report = importProducts.importCsv(body("status,code,name,description,price",
+				"ACTIVE,P001,Product,\"Soft, blue\",10.50", "ACTIVE,P002,,d,1"));
+
+		verify(bulkOperations).upsert(any(Query.class), update.capture());
+		assertEquals("Soft, blue", update.getValue().getUpdateObject().get("$set", Document.class)
+				.get("description"));
+		assertEquals(1, report.getInserted());
+		assertEquals(3, report.getErrors().get(0).getRow());
+		assertEquals("name must not be null", report.getErrors().get(0).getMessage());
+	}
+
+	@Test
+	void unknownCsvColumnsAreRejectedBeforeWriting() {
+		assertThrows(BadRequestException.class, () -> importProducts.importCsv(body("code,name,color")));
+
+		verify(mongoTemplate, never()).bulkOps(any(BulkMode.class), any(Class.class));
+	}
+
+	@Test
+	void repeatedCodeIsWrittenAfterTheEarlierRow() throws IOException {
+		when(bulkOperations.execute()).thenReturn(result(1, 0), result(0, 1));
+
+		ImportReportDTO report = importProducts.importNdjson(body(json("P001"), json("P001")));
+
+		assertEquals(1, report.getInserted());
+		assertEquals(1, report.getUpdated());
+		verify(bulkOperations, times(2)).execute();
+	}
+
+	@Test
+	void rowsRejectedByTheDatabaseAreReported() throws IOException {
+		BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key", new BsonDocument(), 1);
+		when(bulkOperations.execute()).thenThrow(new BulkOperationException("bulk write failed",
+				new MongoBulkWriteException(result(1, 0), List.of(duplicate), null, new ServerAddress(), Set.of())));
+
+		ImportReportDTO report = importProducts.importNdjson(body(json("P001"), json("P002")));
+
+		assertEquals(1, report.getInserted());
+		assertEquals(1, report.getFailed());
+		assertEquals(2, report.getErrors().get(0).getRow());
+		assertEquals("P002", report.getErrors().get(0).getCode());
+	}
+}
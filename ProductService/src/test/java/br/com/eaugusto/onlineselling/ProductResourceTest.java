@@ -2,6 +2,8 @@ package br.com.eaugusto.onlineselling;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
@@ -9,6 +11,7 @@ import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -20,10 +23,15 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
 import br.com.eaugusto.onlineselling.dto.ProductDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
 import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
 import br.com.eaugusto.onlineselling.resources.ProductResource;
 import br.com.eaugusto.onlineselling.usecase.RegisterProduct;
 import br.com.eaugusto.onlineselling.usecase.SearchProduct;
@@ -112,6 +120,41 @@ class ProductResourceTest {
 		assertProductEquals(product2, body.getContent().get(1));
 	}
 
+	@Test
+	void scrollAllProducts() {
+		ProductDTO product1 = createProduct();
+		ProductDTO product2 = createProduct();
+
+		when(searchProduct.scrollAllProducts("cursor", 2))
+				.thenReturn(new CursorPageDTO<>(List.of(product1, product2), "next"));
+		when(searchProduct.scrollAllProducts("next", 2)).thenReturn(new CursorPageDTO<>(List.of(), null));
+
+		CursorPageDTO<ProductDTO> first = productResource.scrollAllProducts("cursor", 2).getBody();
+		CursorPageDTO<ProductDTO> last = productResource.scrollAllProducts(first.getNextCursor(), 2).getBody();
+
+		assertEquals(2, first.getContent().size());
+		assertProductEquals(product1, first.getContent().get(0));
+		assertTrue(last.getContent().isEmpty());
+		assertNull(last.getNextCursor());
+	}
+
+	@Test
+	void sliceAllProducts() {
+		ProductDTO product = createProduct();
+		PageRequest pageable = PageRequest.of(0, 1);
+
+		when(searchProduct.sliceAllProducts(pageable, TotalSource.ESTIMATED))
+				.thenReturn(new SliceDTO<>(List.of(product), 0, 1, true, 10L, TotalSource.ESTIMATED));
+
+		SliceDTO<ProductDTO> slice = productResource.sliceAllProducts(pageable, TotalSource.ESTIMATED).getBody();
+
+		assertNotNull(slice);
+		assertProductEquals(product, slice.getContent().get(0));
+		assertTrue(slice.isHasNext());
+		assertEquals(10L, slice.getTotalElements());
+		assertEquals(TotalSource.ESTIMATED, slice.getTotalSource());
+	}
+
 	@Test
 	void searchByCode() {
 		ProductDTO productDto = createProduct();
@@ -124,6 +167,19 @@ class ProductResourceTest {
 		assertProductEquals(productDto, response.getBody());
 	}
 
+	@Test
+	void searchByCodes() {
+		List<String> codes = List.of("P0001", "P0002");
+		StreamingResponseBody products = out -> out.write("[]".getBytes(StandardCharsets.UTF_8));
+
+		when(searchProduct.searchByCodes(codes)).thenReturn(products);
+
+		ResponseEntity<StreamingResponseBody> response = productResource.searchByCodes(codes);
+
+		assertSame(products, response.getBody());
+		assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+	}
+
 	@Test
 	void isRegistered() {
 		when(searchProduct.isRegistered("1")).thenReturn(true);
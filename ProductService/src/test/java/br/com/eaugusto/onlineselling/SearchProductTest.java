@@ -0,0 +1,107 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.dto.ProductDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.repository.IProductRepository;
+import br.com.eaugusto.onlineselling.usecase.SearchProduct;
+import br.com.eaugusto.onlineselling.usecase.TotalCounter;
+
+/**
+ * Unit tests for the batch lookup of the {@link SearchProduct} use case.
+ * <p>
+ * Verifies that duplicate and null codes are dropped before the query, that the
+ * products read from the cursor are written as a JSON array and the cursor is
+ * closed, and that batches above the maximum number of distinct codes are
+ * rejected before anything is read.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class SearchProductTest {
+
+	private final IProductRepository productRepository = mock(IProductRepository.class);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SearchProduct searchProduct = new SearchProduct(productRepository,
+			new TotalCounter(mock(MongoTemplate.class), Duration.ofMinutes(1)), objectMapper, 3, 100);
+
+	private Product createProduct(String code) {
+		return Product.builder().id("id-" + code).code(code).name("Product " + code).description("Description")
+				.price(BigDecimal.TEN).status(Status.ACTIVE).build();
+	}
+
+	private String write(StreamingResponseBody body) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		body.writeTo(out);
+		return out.toString(StandardCharsets.UTF_8);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void duplicateAndNullCodesAreDroppedBeforeTheQuery() throws IOException {
+		ArgumentCaptor<Collection<String>> codes = ArgumentCaptor.forClass(Collection.class);
+		AtomicBoolean closed = new AtomicBoolean();
+		when(productRepository.findByCodeIn(codes.capture())).thenReturn(
+				Stream.of(createProduct("P001"), createProduct("P002")).onClose(() -> closed.set(true)));
+
+		String json = write(searchProduct.searchByCodes(Arrays.asList("P001", null, "P002", "P001", "P404")));
+
+		assertEquals(List.of("P001", "P002", "P404"), new ArrayList<>(codes.getValue()));
+		ProductDTO[] products = objectMapper.readValue(json, ProductDTO[].class);
+		assertEquals(2, products.length);
+		assertEquals("P002", products[1].getCode());
+		assertTrue(closed.get());
+	}
+
+	@Test
+	void onlyNullCodesWriteAnEmptyArrayWithoutQuerying() throws IOException {
+		String json = write(searchProduct.searchByCodes(Arrays.asList(null, null)));
+
+		assertEquals("[]", json);
+		verify(productRepository, never()).findByCodeIn(any());
+	}
+
+	@Test
+	void batchesAboveTheMaximumAreRejectedBeforeReading() {
+		List<String> codes = IntStream.rangeClosed(1, 4).mapToObj(i -> "P00" + i).toList();
+
+		assertDoesNotThrow(() -> searchProduct.searchByCodes(List.of("P001", "P002", "P003", "P001", "P002")));
+		assertThrows(BadRequestException.class, () -> searchProduct.searchByCodes(codes));
+		verify(productRepository, never()).findByCodeIn(any());
+	}
+}
@@ -0,0 +1,135 @@
+package br.com.eaugusto.onlineselling.benchmark;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.validation.FieldError;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.errorhandling.ApiError;
+
+/**
+ * Measures JSON encoding and decoding of the payloads the sales service writes
+ * and reads, with reflective accessors and with the Blackbird module enabled by
+ * {@code application.json.blackbird}.
+ * <p>
+ * The mapper is built by {@link Jackson2ObjectMapperBuilder} with dates written
+ * as text, as Spring Boot builds the shared one. A page holds twenty sales of
+ * five lines each, the default page size of the listing endpoints; products are
+ * decoded as the batch lookup of the product service returns them.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="JsonBenchmark"}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+	private static final int PAGE_SIZE = 20;
+
+	private static final int LINES_PER_SALE = 5;
+
+	@Param({ "reflection", "blackbird" })
+	private String accessors;
+
+	private ObjectMapper objectMapper;
+	private ObjectReader salesReader;
+	private ObjectReader productsReader;
+	private Page<Sales> salesPage;
+	private ApiError apiError;
+	private byte[] salesJson;
+	private byte[] productsJson;
+
+	@Setup
+	public void setup() throws IOException {
+		Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		if ("blackbird".equals(accessors)) {
+			builder.modulesToInstall(new BlackbirdModule());
+		}
+		objectMapper = builder.build();
+		salesReader = objectMapper.readerForListOf(Sales.class);
+		productsReader = objectMapper.readerForListOf(Product.class);
+
+		List<Product> products = new ArrayList<>();
+		for (int i = 0; i < LINES_PER_SALE; i++) {
+			products.add(Product.builder().id("id-P" + i).code("P" + i).name("Product " + i)
+					.description("Description of product " + i).price(BigDecimal.valueOf(1990 + i, 2)).build());
+		}
+		List<Sales> sales = new ArrayList<>();
+		for (int i = 0; i < PAGE_SIZE; i++) {
+			Sales sale = Sales.builder().id("id-S" + i).code("S" + i).clientId("client-" + i)
+					.saleDate(Instant.parse("2026-10-17T10:15:30Z")).status(Status.STARTED).version(3L).build();
+			for (int line = 0; line < LINES_PER_SALE; line++) {
+				sale.addProduct(products.get(line), line + 1);
+			}
+			sales.add(sale);
+		}
+		salesPage = new PageImpl<>(sales, PageRequest.of(0, PAGE_SIZE), 1000);
+		salesJson = objectMapper.writeValueAsBytes(sales);
+		productsJson = objectMapper.writeValueAsBytes(products);
+
+		apiError = new ApiError(HttpStatus.BAD_REQUEST, "Validation error", new IllegalArgumentException("invalid"));
+		apiError.addValidationErrors(List.of(
+				new FieldError("salesDTO", "code", "S", false, null, null, "size must be between 2 and 10"),
+				new FieldError("salesDTO", "clientId", null, false, null, null, "must not be null"),
+				new FieldError("salesDTO", "saleDate", null, false, null, null, "must not be null")));
+	}
+
+	@Benchmark
+	public byte[] encodeSalesPage() throws IOException {
+		return objectMapper.writeValueAsBytes(salesPage);
+	}
+
+	@Benchmark
+	public List<Sales> decodeSales() throws IOException {
+		return salesReader.readValue(salesJson);
+	}
+
+	@Benchmark
+	public List<Product> decodeProducts() throws IOException {
+		return productsReader.readValue(productsJson);
+	}
+
+	@Benchmark
+	public byte[] encodeApiError() throws IOException {
+		return objectMapper.writeValueAsBytes(apiError);
+	}
+}
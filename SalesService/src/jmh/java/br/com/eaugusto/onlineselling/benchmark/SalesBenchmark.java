@@ -0,0 +1,152 @@
+package br.com.eaugusto.onlineselling.benchmark;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.ProductQuantity;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+
+/**
+ * Measures the cart operations of {@link Sales} and {@link ProductQuantity}
+ * across cart sizes, so the cost of a mutation can be followed as the number of
+ * lines grows.
+ * <p>
+ * The sale is rebuilt before every iteration. Each line starts with enough
+ * units for {@code removeProduct} to keep taking one unit from it, and the
+ * benchmarks that add or remove one unit cycle through the lines so that no
+ * single line is always hot. {@code addThenRemoveLine} adds a product the sale
+ * does not have and removes it again, which is the cost of creating and
+ * dropping a line. {@code getTotalProductQuantityUncached} reads the total of a
+ * sale stored before the total quantity was persisted, which sums every line.
+ * </p>
+ *
+ * <p>
+ * The total check enabled by {@value Sales#VERIFY_TOTALS_PROPERTY} in the test
+ * build is off here, as in production. Run with {@code mvn -Pbenchmark
+ * test-compile exec:exec -Djmh.args="SalesBenchmark"}; allocation per operation
+ * is reported by the GC profiler the profile enables. Baseline results are kept
+ * in {@code src/jmh/results}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalesBenchmark {
+
+	/**
+	 * Units held by the whole cart at the start of an iteration, spread over its
+	 * lines, which keeps the total quantity far from overflowing.
+	 */
+	private static final int CART_UNITS = 1_000_000_000;
+
+	@Param({ "1", "10", "100", "1000", "10000" })
+	private int cartSize;
+
+	private Product[] products;
+	private Product extraProduct;
+	private Sales sale;
+	private Sales uncachedSale;
+	private ProductQuantity line;
+	private int next;
+
+	@Setup(Level.Trial)
+	public void createProducts() {
+		products = new Product[cartSize];
+		for (int i = 0; i < cartSize; i++) {
+			products[i] = product("P" + i, BigDecimal.valueOf(1990 + i % 100, 2));
+		}
+		extraProduct = product("EXTRA", new BigDecimal("5.49"));
+	}
+
+	@Setup(Level.Iteration)
+	public void createSale() {
+		sale = sale();
+		uncachedSale = sale();
+		uncachedSale.setTotalProductQuantity(null);
+		line = ProductQuantity.builder().product(products[0]).quantity(0).totalPrice(BigDecimal.ZERO).build();
+		next = 0;
+	}
+
+	@Benchmark
+	public Sales addProduct() {
+		sale.addProduct(nextProduct(), 1);
+		return sale;
+	}
+
+	@Benchmark
+	public Sales removeProduct() {
+		sale.removeProduct(nextProduct(), 1);
+		return sale;
+	}
+
+	@Benchmark
+	public Sales addThenRemoveLine() {
+		sale.addProduct(extraProduct, 1);
+		sale.removeProduct(extraProduct, 1);
+		return sale;
+	}
+
+	@Benchmark
+	public BigDecimal recalculateTotalSalesPrice() {
+		sale.recalculateTotalSalesPrice();
+		return sale.getTotalPrice();
+	}
+
+	@Benchmark
+	public Integer getTotalProductQuantity() {
+		return sale.getTotalProductQuantity();
+	}
+
+	@Benchmark
+	public Integer getTotalProductQuantityUncached() {
+		return uncachedSale.getTotalProductQuantity();
+	}
+
+	@Benchmark
+	public BigDecimal addQuantity() {
+		return line.addQuantity(1);
+	}
+
+	private Product nextProduct() {
+		Product product = products[next];
+		next = next + 1 == cartSize ? 0 : next + 1;
+		return product;
+	}
+
+	private Sales sale() {
+		Sales newSale = Sales.builder().code("S1").clientId("C1").saleDate(Instant.EPOCH).status(Status.STARTED)
+				.build();
+		int unitsPerLine = CART_UNITS / cartSize;
+		for (Product product : products) {
+			newSale.addProduct(product, unitsPerLine);
+		}
+		return newSale;
+	}
+
+	private static Product product(String code, BigDecimal price) {
+		return Product.builder().id(code).code(code).name("Product " + code).description("Description")
+				.price(price).build();
+	}
+}
@@ -0,0 +1,89 @@
+package br.com.eaugusto.onlineselling.benchmark;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.ProductQuantity;
+import br.com.eaugusto.onlineselling.domain.ProductQuantitySet;
+
+/**
+ * Compares finding the line of a product in a sale by scanning a
+ * {@link HashSet}, as {@code Sales} used to do, with the code-keyed
+ * {@link ProductQuantitySet}.
+ * <p>
+ * Each invocation looks up every line of the cart once, which is the lookup
+ * cost of a bulk edit touching the whole cart.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="SalesLineLookupBenchmark"}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SalesLineLookupBenchmark {
+
+	@Param({ "10", "100", "500", "1000" })
+	private int cartSize;
+
+	private Set<ProductQuantity> scannedLines;
+	private ProductQuantitySet keyedLines;
+	private String[] codes;
+
+	@Setup
+	public void setup() {
+		scannedLines = new HashSet<>();
+		keyedLines = new ProductQuantitySet();
+		codes = new String[cartSize];
+		for (int i = 0; i < cartSize; i++) {
+			codes[i] = "P" + i;
+			Product product = Product.builder().id(String.valueOf(i)).code(codes[i]).name("Product " + i)
+					.description("Description").price(BigDecimal.TEN).build();
+			ProductQuantity line = ProductQuantity.builder().product(product).quantity(1).totalPrice(BigDecimal.TEN)
+					.build();
+			scannedLines.add(line);
+			keyedLines.add(line);
+		}
+	}
+
+	@Benchmark
+	public void scanHashSet(Blackhole blackhole) {
+		for (String code : codes) {
+			Optional<ProductQuantity> line = scannedLines.stream()
+					.filter(productQuantity -> productQuantity.getProduct().getCode().equals(code)).findAny();
+			blackhole.consume(line);
+		}
+	}
+
+	@Benchmark
+	public void lookUpByCode(Blackhole blackhole) {
+		for (String code : codes) {
+			blackhole.consume(Optional.ofNullable(keyedLines.get(code)));
+		}
+	}
+}
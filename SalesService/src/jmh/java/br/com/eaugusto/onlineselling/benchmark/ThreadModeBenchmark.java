@@ -0,0 +1,127 @@
+package br.com.eaugusto.onlineselling.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares serving a burst of blocking requests on a platform thread pool sized
+ * like Tomcat's default (200 threads) with one virtual thread per request.
+ * <p>
+ * Each request parks for {@code ioMillis}, standing in for a Mongo query or a
+ * call to another service. With {@code guard=monitor} the wait happens inside
+ * a {@code synchronized} block, which pins virtual threads to their carrier on
+ * Java 21, showing what an unfixed pinning site costs. {@code guard=lock} uses
+ * a {@link ReentrantLock} instead, which does not pin.
+ * </p>
+ *
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.args="ThreadModeBenchmark"}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+	private static final int PLATFORM_POOL_SIZE = 200;
+
+	@Param({ "1000", "5000" })
+	private int requests;
+
+	@Param({ "5" })
+	private int ioMillis;
+
+	@Param({ "none", "lock", "monitor" })
+	private String guard;
+
+	private ExecutorService platformPool;
+	private ExecutorService virtualThreads;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		platformPool = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+		virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		platformPool.shutdownNow();
+		virtualThreads.shutdownNow();
+	}
+
+	@Benchmark
+	public int platformThreads() throws Exception {
+		return serve(platformPool);
+	}
+
+	@Benchmark
+	public int virtualThreads() throws Exception {
+		return serve(virtualThreads);
+	}
+
+	private int serve(ExecutorService executor) throws Exception {
+		List<Future<Integer>> responses = new ArrayList<>(requests);
+		for (int i = 0; i < requests; i++) {
+			int request = i;
+			responses.add(executor.submit(() -> handle(request)));
+		}
+		int served = 0;
+		for (Future<Integer> response : responses) {
+			served += response.get();
+		}
+		return served;
+	}
+
+	private int handle(int request) {
+		switch (guard) {
+		case "lock" -> {
+			ReentrantLock lock = new ReentrantLock();
+			lock.lock();
+			try {
+				blockingIo();
+			} finally {
+				lock.unlock();
+			}
+		}
+		case "monitor" -> {
+			Object monitor = new Object();
+			synchronized (monitor) {
+				blockingIo();
+			}
+		}
+		default -> blockingIo();
+		}
+		return request >= 0 ? 1 : 0;
+	}
+
+	private void blockingIo() {
+		LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(ioMillis));
+	}
+}
@@ -0,0 +1,101 @@
+package br.com.eaugusto.onlineselling.config;
+
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import br.com.eaugusto.onlineselling.services.MeteredFeignClient;
+import br.com.eaugusto.onlineselling.services.OutboundCallMetrics;
+import feign.Client;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Configuration of the pooled HTTP client shared by all outbound calls.
+ * <p>
+ * The same Apache HttpClient 5 instance backs the {@code RestTemplate} used to
+ * reach the client service and the Feign client of the product service, so
+ * both reuse keep-alive connections from one pool. Pool limits, timeouts, idle
+ * eviction and connection lifetime are read from
+ * {@code application.httpClient.*}.
+ * </p>
+ * <p>
+ * Pool utilisation is published as the {@code httpcomponents.httpclient.pool.*}
+ * meters tagged with {@code httpclient=outbound}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Configuration
+public class HttpClientConfig {
+
+	@Bean
+	PoolingHttpClientConnectionManager httpClientConnectionManager(
+			@Value("${application.httpClient.maxTotal:200}") int maxTotal,
+			@Value("${application.httpClient.maxPerRoute:50}") int maxPerRoute,
+			@Value("${application.httpClient.connectTimeout:2s}") Duration connectTimeout,
+			@Value("${application.httpClient.socketTimeout:5s}") Duration socketTimeout,
+			@Value("${application.httpClient.timeToLive:5m}") Duration timeToLive,
+			@Value("${application.httpClient.validateAfterInactivity:2s}") Duration validateAfterInactivity) {
+		ConnectionConfig connectionConfig = ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(connectTimeout))
+				.setSocketTimeout(Timeout.of(socketTimeout))
+				.setTimeToLive(TimeValue.of(timeToLive))
+				.setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+				.build();
+		return PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxTotal)
+				.setMaxConnPerRoute(maxPerRoute)
+				.setDefaultConnectionConfig(connectionConfig)
+				.build();
+	}
+
+	@Bean
+	CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+			@Value("${application.httpClient.connectionRequestTimeout:1s}") Duration connectionRequestTimeout,
+			@Value("${application.httpClient.responseTimeout:5s}") Duration responseTimeout,
+			@Value("${application.httpClient.evictIdleAfter:30s}") Duration evictIdleAfter) {
+		RequestConfig requestConfig = RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+				.setResponseTimeout(Timeout.of(responseTimeout))
+				.build();
+		return HttpClients.custom()
+				.setConnectionManager(connectionManager)
+				.setDefaultRequestConfig(requestConfig)
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.of(evictIdleAfter))
+				.build();
+	}
+
+	/**
+	 * Feign client backed by the shared HTTP client. Spring Cloud OpenFeign only
+	 * builds its own Apache client when no {@link CloseableHttpClient} bean
+	 * exists, so the adapter has to be declared here. Calls are reported to
+	 * {@link OutboundCallMetrics}.
+	 *
+	 * @param httpClient the pooled HTTP client
+	 * @param metrics    the outbound call meters
+	 * @return the Feign client used by the Feign interfaces
+	 */
+	@Bean
+	Client feignClient(CloseableHttpClient httpClient, OutboundCallMetrics metrics) {
+		return new MeteredFeignClient(new ApacheHttp5Client(httpClient), metrics);
+	}
+
+	@Bean
+	MeterBinder httpClientPoolMetrics(PoolingHttpClientConnectionManager connectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "outbound");
+	}
+}
@@ -1,6 +1,9 @@
 package br.com.eaugusto.onlineselling.config;
 
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.BigDecimalRepresentation;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
 
 /**
@@ -8,6 +11,10 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
  * <p>
  * Enables the scanning of MongoDB repositories in the specified base package.
  * </p>
+ * <p>
+ * Monetary values are stored as {@code Decimal128} instead of strings so that
+ * sale totals can be adjusted in place with {@code $inc}.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 12, 2025
@@ -16,4 +23,15 @@ import org.springframework.data.mongodb.repository.config.EnableMongoRepositorie
 @EnableMongoRepositories(basePackages = "br.com.eaugusto.onlineselling.repository")
 public class MongoConfig {
 
+	/**
+	 * Registers the custom conversions used by the mapping layer.
+	 *
+	 * @return conversions storing {@link java.math.BigDecimal} as
+	 *         {@code Decimal128}
+	 */
+	@Bean
+	MongoCustomConversions mongoCustomConversions() {
+		return MongoCustomConversions
+				.create(adapter -> adapter.bigDecimal(BigDecimalRepresentation.DECIMAL128));
+	}
 }
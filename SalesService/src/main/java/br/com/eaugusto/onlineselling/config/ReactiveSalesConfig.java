@@ -0,0 +1,79 @@
+package br.com.eaugusto.onlineselling.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.repository.config.EnableReactiveMongoRepositories;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration of the {@code reactive} profile.
+ * <p>
+ * Serves the API from Netty event loops instead of a Tomcat thread per
+ * request, enables the reactive MongoDB repositories and gives every
+ * {@code WebClient} a shared Reactor Netty connection pool. Pool limits and
+ * timeouts reuse the {@code application.httpClient.*} settings of the blocking
+ * client; {@code maxPerRoute} becomes the per host limit of the pool.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Configuration
+@Profile("reactive")
+@EnableReactiveMongoRepositories(basePackages = "br.com.eaugusto.onlineselling.repository")
+public class ReactiveSalesConfig implements WebFluxConfigurer {
+
+	/**
+	 * Prefers Netty over Tomcat, which is also on the classpath for the blocking
+	 * profile.
+	 *
+	 * @return the web server factory
+	 */
+	@Bean
+	NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+		return new NettyReactiveWebServerFactory();
+	}
+
+	@Bean(destroyMethod = "dispose")
+	ConnectionProvider outboundConnectionProvider(@Value("${application.httpClient.maxPerRoute:50}") int maxPerRoute,
+			@Value("${application.httpClient.connectionRequestTimeout:1s}") Duration connectionRequestTimeout,
+			@Value("${application.httpClient.evictIdleAfter:30s}") Duration evictIdleAfter,
+			@Value("${application.httpClient.timeToLive:5m}") Duration timeToLive) {
+		return ConnectionProvider.builder("outbound")
+				.maxConnections(maxPerRoute)
+				.pendingAcquireTimeout(connectionRequestTimeout)
+				.maxIdleTime(evictIdleAfter)
+				.maxLifeTime(timeToLive)
+				.evictInBackground(evictIdleAfter)
+				.build();
+	}
+
+	@Bean
+	WebClientCustomizer outboundWebClientCustomizer(ConnectionProvider outboundConnectionProvider,
+			@Value("${application.httpClient.connectTimeout:2s}") Duration connectTimeout,
+			@Value("${application.httpClient.responseTimeout:5s}") Duration responseTimeout) {
+		HttpClient httpClient = HttpClient.create(outboundConnectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+				.responseTimeout(responseTimeout);
+		ReactorClientHttpConnector connector = new ReactorClientHttpConnector(httpClient);
+		return webClientBuilder -> webClientBuilder.clientConnector(connector);
+	}
+
+	@Override
+	public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+		configurer.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver());
+	}
+}
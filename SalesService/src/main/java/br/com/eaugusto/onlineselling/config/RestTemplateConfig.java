@@ -1,14 +1,20 @@
 package br.com.eaugusto.onlineselling.config;
 
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import br.com.eaugusto.onlineselling.services.MeteredRequestInterceptor;
+import br.com.eaugusto.onlineselling.services.OutboundCallMetrics;
+
 /**
  * Configuration class for creating and managing {@link RestTemplate} beans.
  * <p>
  * Provides a {@link RestTemplate} instance for making HTTP requests to external
- * services.
+ * services, backed by the pooled client from {@link HttpClientConfig}. Calls
+ * are reported to {@link OutboundCallMetrics}.
  * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -18,7 +24,9 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig {
 
 	@Bean
-	RestTemplate restTemplate() {
-		return new RestTemplate();
+	RestTemplate restTemplate(CloseableHttpClient httpClient, OutboundCallMetrics metrics) {
+		RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.getInterceptors().add(new MeteredRequestInterceptor(metrics));
+		return restTemplate;
 	}
 }
@@ -0,0 +1,156 @@
+package br.com.eaugusto.onlineselling.config;
+
+import java.util.Date;
+import java.util.List;
+import java.util.function.Function;
+
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings {@link Sales} documents written by earlier versions of the service up
+ * to the current storage format.
+ * <p>
+ * Monetary values used to be persisted as strings, which rules out the
+ * {@code $inc} updates used for line items. Sales still holding a string
+ * {@code totalPrice} have their sale, line and product amounts converted to
+ * {@code Decimal128}. Sales written before optimistic locking was introduced
+ * get an initial {@code version}, otherwise saving them would be treated as an
+ * insert. Sales written before the total quantity was stored get it summed from
+ * their line items.
+ * </p>
+ *
+ * <p>
+ * Each step is applied once: before running it, a marker document with the
+ * step id is inserted into the {@code salesMigrations} collection, and steps
+ * whose marker already exists, because they were applied or another replica is
+ * applying them, are skipped. A step that fails removes its marker, so it is
+ * retried on the next start. Once every step is recorded, a start costs one
+ * rejected marker insert per step. Setting
+ * {@code application.sales.migration.enabled} to {@code false} skips the
+ * migration, for deployments whose sales were all written by the current
+ * version.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+@Slf4j
+public class SalesDocumentMigration implements ApplicationRunner {
+
+	public static final String MIGRATIONS_COLLECTION = "salesMigrations";
+
+	private static final Document STRING_TOTAL_PRICE = Document.parse("""
+			{ "totalPrice": { "$type": "string" } }
+			""");
+
+	private static final Document DECIMAL_AMOUNTS = Document.parse("""
+			{ "$set": {
+				"totalPrice": { "$toDecimal": "$totalPrice" },
+				"productsSet": { "$map": {
+					"input": { "$ifNull": [ "$productsSet", [] ] },
+					"as": "line",
+					"in": { "$mergeObjects": [ "$$line", {
+						"totalPrice": { "$toDecimal": "$$line.totalPrice" },
+						"product": { "$mergeObjects": [ "$$line.product",
+							{ "price": { "$toDecimal": "$$line.product.price" } } ] }
+					} ] }
+				} }
+			} }
+			""");
+
+	private static final Document MISSING_VERSION = Document.parse("""
+			{ "version": { "$exists": false } }
+			""");
+
+	private static final Document INITIAL_VERSION = Document.parse("""
+			{ "$set": { "version": { "$numberLong": "0" } } }
+			""");
+
+	private static final Document MISSING_TOTAL_QUANTITY = Document.parse("""
+			{ "totalQuantity": { "$exists": false } }
+			""");
+
+	private static final Document SUMMED_TOTAL_QUANTITY = Document.parse("""
+			{ "$set": { "totalQuantity": { "$sum": { "$ifNull": [ "$productsSet.quantity", [] ] } } } }
+			""");
+
+	private static final List<Step> STEPS = List.of(
+			new Step("1-decimal-amounts", "Converted amounts of {} sales to Decimal128",
+					sales -> sales.updateMany(STRING_TOTAL_PRICE, List.of(DECIMAL_AMOUNTS))),
+			new Step("2-initial-version", "Initialized version of {} sales",
+					sales -> sales.updateMany(MISSING_VERSION, INITIAL_VERSION)),
+			new Step("3-total-quantity", "Initialized total quantity of {} sales",
+					sales -> sales.updateMany(MISSING_TOTAL_QUANTITY, List.of(SUMMED_TOTAL_QUANTITY))));
+
+	private final MongoTemplate mongoTemplate;
+	private final boolean enabled;
+
+	public SalesDocumentMigration(MongoTemplate mongoTemplate,
+			@Value("${application.sales.migration.enabled:true}") boolean enabled) {
+		this.mongoTemplate = mongoTemplate;
+		this.enabled = enabled;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) {
+			return;
+		}
+		MongoCollection<Document> sales = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Sales.class));
+		MongoCollection<Document> migrations = mongoTemplate.getCollection(MIGRATIONS_COLLECTION);
+		for (Step step : STEPS) {
+			if (claim(migrations, step)) {
+				apply(sales, migrations, step);
+			} else {
+				log.debug("Skipping sales migration {}, already applied", step.id());
+			}
+		}
+	}
+
+	private boolean claim(MongoCollection<Document> migrations, Step step) {
+		try {
+			migrations.insertOne(new Document("_id", step.id()).append("startedAt", new Date()));
+			return true;
+		} catch (MongoWriteException ex) {
+			if (ErrorCategory.fromErrorCode(ex.getError().getCode()) == ErrorCategory.DUPLICATE_KEY) {
+				return false;
+			}
+			throw ex;
+		}
+	}
+
+	private void apply(MongoCollection<Document> sales, MongoCollection<Document> migrations, Step step) {
+		UpdateResult result;
+		try {
+			result = step.update().apply(sales);
+		} catch (RuntimeException ex) {
+			migrations.deleteOne(Filters.eq("_id", step.id()));
+			throw ex;
+		}
+		migrations.updateOne(Filters.eq("_id", step.id()), Updates.combine(Updates.set("appliedAt", new Date()),
+				Updates.set("modified", result.getModifiedCount())));
+		log.info(step.message(), result.getModifiedCount());
+	}
+
+	/**
+	 * One migration step, identified by the id recorded once it was applied.
+	 */
+	private record Step(String id, String message, Function<MongoCollection<Document>, UpdateResult> update) {
+	}
+}
@@ -0,0 +1,105 @@
+package br.com.eaugusto.onlineselling.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads that stay pinned to their carrier thread.
+ * <p>
+ * Only active when {@code spring.threads.virtual.enabled} is {@code true}. A
+ * virtual thread that blocks inside a {@code synchronized} block or a native
+ * frame cannot unmount, so it holds one of the few carrier threads for the
+ * whole wait, e.g. in a library that still guards I/O with monitors. The
+ * {@code jdk.VirtualThreadPinned} JFR event is streamed in process, and every
+ * pin longer than {@code application.virtualThreads.pinnedThreshold} is logged
+ * with the frames that caused it and counted in
+ * {@code jvm.threads.virtual.pinned}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 12;
+
+	private final Duration threshold;
+	private final LongAdder pinnedCount = new LongAdder();
+	private RecordingStream recordingStream;
+
+	public VirtualThreadPinningMonitor(
+			@Value("${application.virtualThreads.pinnedThreshold:20ms}") Duration threshold,
+			MeterRegistry meterRegistry) {
+		this.threshold = threshold;
+		FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedCount, LongAdder::sum)
+				.description("Virtual threads pinned to their carrier for longer than the threshold")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public synchronized void start() {
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		recordingStream.onEvent(PINNED_EVENT, this::report);
+		recordingStream.startAsync();
+		log.info("Reporting virtual threads pinned for more than {}", threshold);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return recordingStream != null;
+	}
+
+	/**
+	 * @return the number of pins reported since startup
+	 */
+	public long getPinnedCount() {
+		return pinnedCount.sum();
+	}
+
+	private void report(RecordedEvent event) {
+		pinnedCount.increment();
+		log.warn("Virtual thread pinned its carrier for {} ms at:\n\t{}", event.getDuration().toMillis(),
+				frames(event));
+	}
+
+	private String frames(RecordedEvent event) {
+		if (event.getStackTrace() == null) {
+			return "(no stack trace)";
+		}
+		List<RecordedFrame> frames = event.getStackTrace().getFrames();
+		return frames.stream().limit(LOGGED_FRAMES).map(this::describe).collect(Collectors.joining("\n\t"));
+	}
+
+	private String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":"
+				+ frame.getLineNumber();
+	}
+}
@@ -12,7 +12,8 @@ import lombok.Setter;
  * Represents a specific quantity of a {@link Product} and its total price.
  * <p>
  * Provides methods for adding or subtracting quantities while keeping the total
- * price updated accordingly.
+ * price updated accordingly. Both return the change of the line total, so the
+ * sale can adjust its own totals without summing every line again.
  * </p>
  *
  * <p>
@@ -41,16 +42,18 @@ public class ProductQuantity {
 		this.totalPrice = BigDecimal.ZERO;
 	}
 
-	public void addQuantity(Integer quantity) {
+	public BigDecimal addQuantity(Integer quantity) {
 		this.quantity += quantity;
 		BigDecimal newQuantity = this.product.getPrice().multiply(BigDecimal.valueOf(quantity));
 		BigDecimal newTotalQuantity = this.totalPrice.add(newQuantity);
 		this.totalPrice = newTotalQuantity;
+		return newQuantity;
 	}
 
-	public void subtractQuantity(Integer quantity) {
+	public BigDecimal subtractQuantity(Integer quantity) {
 		this.quantity -= quantity;
 		BigDecimal newQuantity = this.product.getPrice().multiply(BigDecimal.valueOf(quantity));
 		this.totalPrice = this.totalPrice.subtract(newQuantity);
+		return newQuantity.negate();
 	}
 }
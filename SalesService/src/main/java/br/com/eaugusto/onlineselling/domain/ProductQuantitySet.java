@@ -0,0 +1,97 @@
+package br.com.eaugusto.onlineselling.domain;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The line items of a {@link Sales}, keyed by product code.
+ * <p>
+ * Behaves as a {@code Set<ProductQuantity>} holding at most one line per
+ * product code, so it is still written as a plain array in JSON and BSON.
+ * Looking a line up, adding it or removing it by code takes constant time
+ * instead of a scan over every line.
+ * </p>
+ *
+ * <p>
+ * Lines keep their insertion order. Adding a line for a code that is already
+ * present leaves the set unchanged, like adding an equal element to a
+ * {@link java.util.HashSet}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class ProductQuantitySet extends AbstractSet<ProductQuantity> {
+
+	private final Map<String, ProductQuantity> linesByCode;
+
+	public ProductQuantitySet() {
+		this.linesByCode = new LinkedHashMap<>();
+	}
+
+	public ProductQuantitySet(Collection<ProductQuantity> lines) {
+		this.linesByCode = new LinkedHashMap<>(Math.max(16, (int) (lines.size() / 0.75f) + 1));
+		addAll(lines);
+	}
+
+	/**
+	 * Returns the line of a product.
+	 *
+	 * @param code the product code
+	 * @return the line, or {@code null} if the product is not in the set
+	 */
+	public ProductQuantity get(String code) {
+		return linesByCode.get(code);
+	}
+
+	/**
+	 * Removes the line of a product.
+	 *
+	 * @param code the product code
+	 * @return the removed line, or {@code null} if the product was not in the set
+	 */
+	public ProductQuantity removeByCode(String code) {
+		return linesByCode.remove(code);
+	}
+
+	@Override
+	public boolean add(ProductQuantity line) {
+		return linesByCode.putIfAbsent(codeOf(line), line) == null;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return o instanceof ProductQuantity line && line.getProduct() != null
+				&& linesByCode.get(line.getProduct().getCode()) == line;
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		return contains(o) && linesByCode.remove(((ProductQuantity) o).getProduct().getCode()) != null;
+	}
+
+	@Override
+	public Iterator<ProductQuantity> iterator() {
+		return linesByCode.values().iterator();
+	}
+
+	@Override
+	public int size() {
+		return linesByCode.size();
+	}
+
+	@Override
+	public void clear() {
+		linesByCode.clear();
+	}
+
+	private static String codeOf(ProductQuantity line) {
+		if (line.getProduct() == null || line.getProduct().getCode() == null) {
+			throw new IllegalArgumentException("A sale line needs a product with a code");
+		}
+		return line.getProduct().getCode();
+	}
+}
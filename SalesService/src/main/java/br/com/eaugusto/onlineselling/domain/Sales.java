@@ -2,13 +2,13 @@ package br.com.eaugusto.onlineselling.domain;
 
 import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Optional;
-import java.util.Set;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
 
 import br.com.eaugusto.onlineselling.enums.Status;
 import jakarta.validation.constraints.NotNull;
@@ -23,7 +23,17 @@ import lombok.Setter;
  * Represents a sale transaction in the system.
  * <p>
  * Tracks products, total price, sale date, status, and related operations such
- * as adding, removing, and clearing products.
+ * as adding, removing, and clearing products. Line items are kept in a
+ * {@link ProductQuantitySet}, so finding the line of a product does not scan
+ * the whole sale.
+ * </p>
+ *
+ * <p>
+ * The total price and the total quantity are adjusted by the difference each
+ * mutation makes instead of being summed over every line again, and the total
+ * quantity is persisted as {@code totalQuantity}. Setting the system property
+ * {@value #VERIFY_TOTALS_PROPERTY} to {@code true}, as the test build does,
+ * checks both against a full recomputation after every mutation.
  * </p>
  *
  * <p>
@@ -32,13 +42,20 @@ import lombok.Setter;
  * </p>
  *
  * <p>
- * Stored in the "sales" collection in MongoDB.
+ * Versioned for optimistic locking: saving a sale that was changed by someone
+ * else since it was loaded fails instead of overwriting their change.
+ * </p>
+ *
+ * <p>
+ * Stored in the "sales" collection in MongoDB, indexed on sale date and id for
+ * cursor-based listing.
  * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
 @Document(collection = "sales")
+@CompoundIndex(name = "saleDate_id", def = "{'saleDate': 1, '_id': 1}")
 @Getter
 @Setter
 @AllArgsConstructor
@@ -46,6 +63,10 @@ import lombok.Setter;
 @Builder
 public class Sales {
 
+	public static final String VERIFY_TOTALS_PROPERTY = "onlineselling.sales.verifyTotals";
+
+	private static final boolean VERIFY_TOTALS = Boolean.getBoolean(VERIFY_TOTALS_PROPERTY);
+
 	@Id
 	private String id;
 
@@ -58,29 +79,32 @@ public class Sales {
 	private String clientId;
 
 	@Builder.Default
-	private Set<ProductQuantity> productsSet = new HashSet<>();
+	private ProductQuantitySet productsSet = new ProductQuantitySet();
 
 	private BigDecimal totalPrice;
 
+	@Field("totalQuantity")
+	private Integer totalProductQuantity;
+
 	@NotNull
 	private Instant saleDate;
 
 	@NotNull
 	private Status status;
 
+	@Version
+	private Long version;
+
 	public void addProduct(Product productToBeAdded, Integer quantity) {
 		validateSaleStatus();
-		Optional<ProductQuantity> existingProductQuantity = findProductQuantityByCode(productToBeAdded.getCode());
-		if (existingProductQuantity.isPresent()) {
-			ProductQuantity productQuantity = existingProductQuantity.get();
-			productQuantity.addQuantity(quantity);
-		} else {
-			ProductQuantity product = ProductQuantity.builder().product(productToBeAdded).totalPrice(BigDecimal.ZERO)
+		ensureTotals();
+		ProductQuantity productQuantity = productsSet.get(productToBeAdded.getCode());
+		if (productQuantity == null) {
+			productQuantity = ProductQuantity.builder().product(productToBeAdded).totalPrice(BigDecimal.ZERO)
 					.quantity(0).build();
-			product.addQuantity(quantity);
-			productsSet.add(product);
+			productsSet.add(productQuantity);
 		}
-		recalculateTotalSalesPrice();
+		applyDelta(productQuantity.addQuantity(quantity), quantity);
 	}
 
 	public void validateSaleStatus() {
@@ -91,16 +115,15 @@ public class Sales {
 
 	public void removeProduct(Product productToBeRemoved, Integer quantity) {
 		validateSaleStatus();
-		Optional<ProductQuantity> existingProductQuantity = findProductQuantityByCode(productToBeRemoved.getCode());
+		ensureTotals();
+		ProductQuantity productQuantity = productsSet.get(productToBeRemoved.getCode());
 
-		if (existingProductQuantity.isPresent()) {
-			ProductQuantity productQuantity = existingProductQuantity.get();
+		if (productQuantity != null) {
 			if (productQuantity.getQuantity() > quantity) {
-				productQuantity.subtractQuantity(quantity);
-				recalculateTotalSalesPrice();
+				applyDelta(productQuantity.subtractQuantity(quantity), -quantity);
 			} else {
-				productsSet.remove(existingProductQuantity.get());
-				recalculateTotalSalesPrice();
+				productsSet.removeByCode(productToBeRemoved.getCode());
+				applyDelta(productQuantity.getTotalPrice().negate(), -productQuantity.getQuantity());
 			}
 		}
 	}
@@ -109,23 +132,59 @@ public class Sales {
 		validateSaleStatus();
 		productsSet.clear();
 		totalPrice = BigDecimal.ZERO;
+		totalProductQuantity = 0;
 	}
 
+	/**
+	 * @return the number of units in the sale
+	 */
 	public Integer getTotalProductQuantity() {
-		return productsSet.stream().reduce(0,
-				(partialCountResult, product) -> partialCountResult + product.getQuantity(), Integer::sum);
+		if (totalProductQuantity == null) {
+			return productsSet.stream().mapToInt(ProductQuantity::getQuantity).sum();
+		}
+		return totalProductQuantity;
 	}
 
+	/**
+	 * Recomputes the total price and total quantity from every line item.
+	 */
 	public void recalculateTotalSalesPrice() {
 		BigDecimal recalculatedTotalPrice = BigDecimal.ZERO;
+		int recalculatedTotalQuantity = 0;
 		for (ProductQuantity eachProduct : this.productsSet) {
 			recalculatedTotalPrice = recalculatedTotalPrice.add(eachProduct.getTotalPrice());
+			recalculatedTotalQuantity += eachProduct.getQuantity();
 		}
 		this.totalPrice = recalculatedTotalPrice;
+		this.totalProductQuantity = recalculatedTotalQuantity;
+	}
+
+	/**
+	 * Sales built without totals or stored before the total quantity was
+	 * persisted start from a full recomputation.
+	 */
+	private void ensureTotals() {
+		if (totalPrice == null || totalProductQuantity == null) {
+			recalculateTotalSalesPrice();
+		}
 	}
 
-	private Optional<ProductQuantity> findProductQuantityByCode(String code) {
-		return productsSet.stream().filter(productQuantity -> productQuantity.getProduct().getCode().equals(code))
-				.findAny();
+	private void applyDelta(BigDecimal priceDelta, int quantityDelta) {
+		totalPrice = totalPrice.add(priceDelta);
+		totalProductQuantity += quantityDelta;
+		if (VERIFY_TOTALS) {
+			verifyTotals();
+		}
+	}
+
+	private void verifyTotals() {
+		BigDecimal cachedTotalPrice = totalPrice;
+		Integer cachedTotalQuantity = totalProductQuantity;
+		recalculateTotalSalesPrice();
+		if (cachedTotalPrice.compareTo(totalPrice) != 0 || !cachedTotalQuantity.equals(totalProductQuantity)) {
+			throw new IllegalStateException("Incremental totals of sale " + code + " drifted: price "
+					+ cachedTotalPrice + " != " + totalPrice + ", quantity " + cachedTotalQuantity + " != "
+					+ totalProductQuantity);
+		}
 	}
 }
@@ -0,0 +1,40 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data transfer object representing a change to one line item of a sale.
+ * <p>
+ * Used by the multi-line cart endpoint. A positive delta adds units of the
+ * product to the sale, a negative delta removes them.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductChangeDTO {
+
+	/**
+	 * Code of the product being changed.
+	 */
+	@NotNull
+	@Size(min = 2, max = 10)
+	private String code;
+
+	/**
+	 * Number of units to add (positive) or remove (negative). Must not be zero.
+	 */
+	@NotNull
+	private Integer delta;
+}
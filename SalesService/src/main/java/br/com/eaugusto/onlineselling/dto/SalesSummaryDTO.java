@@ -0,0 +1,70 @@
+package br.com.eaugusto.onlineselling.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Data transfer object representing a sale without its line items.
+ * <p>
+ * Used as a projection of {@link Sales}: only the fields listed in
+ * {@link #FIELDS} are requested from MongoDB, so the {@code productsSet} array
+ * is neither sent over the wire nor deserialized.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Getter
+@AllArgsConstructor
+public class SalesSummaryDTO {
+
+	/**
+	 * Projection of the summary fields. Sales stored before the total quantity
+	 * was persisted, and not migrated yet, get it summed from their line items
+	 * on the server.
+	 */
+	public static final String FIELDS = """
+			{ "code": 1, "clientId": 1, "status": 1, "totalPrice": 1, "saleDate": 1,
+			  "totalQuantity": { "$ifNull": [ "$totalQuantity", { "$sum": "$productsSet.quantity" } ] } }
+			""";
+
+	/**
+	 * ID of the sale.
+	 */
+	private final String id;
+
+	/**
+	 * Unique code identifying the sale.
+	 */
+	private final String code;
+
+	/**
+	 * ID of the client associated with the sale.
+	 */
+	private final String clientId;
+
+	/**
+	 * Current status of the sale.
+	 */
+	private final Status status;
+
+	/**
+	 * Total price of all line items.
+	 */
+	private final BigDecimal totalPrice;
+
+	/**
+	 * Total quantity of all line items.
+	 */
+	private final Integer totalProductQuantity;
+
+	/**
+	 * Date and time the sale occurred.
+	 */
+	private final Instant saleDate;
+}
@@ -0,0 +1,22 @@
+package br.com.eaugusto.onlineselling.enums;
+
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+
+/**
+ * Represents where the total of a {@link SliceDTO} comes from.
+ *
+ * <ul>
+ * <li>{@link #NONE} - No total is returned and nothing is counted.</li>
+ * <li>{@link #ESTIMATED} - The total is read from the collection metadata. It
+ * is cheap but may be off after an unclean shutdown or in a sharded
+ * cluster.</li>
+ * <li>{@link #CACHED} - The total is an exact count that is refreshed in the
+ * background and may be behind by up to the configured refresh interval.</li>
+ * </ul>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public enum TotalSource {
+	NONE, ESTIMATED, CACHED;
+}
@@ -0,0 +1,101 @@
+package br.com.eaugusto.onlineselling.exception;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindingResult;
+
+import br.com.eaugusto.onlineselling.errorhandling.ApiError;
+import jakarta.validation.ConstraintViolationException;
+
+/**
+ * Builds the {@link ApiError} responses shared by {@link RestExceptionHandler}
+ * and {@link ReactiveRestExceptionHandler}.
+ * <p>
+ * Both handlers delegate here for every exception they have in common, so the
+ * status, message and validation errors of a response do not depend on the
+ * profile the service runs with.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+final class ApiErrors {
+
+	private ApiErrors() {
+	}
+
+	/**
+	 * Builds the response of a request body or parameters that failed @Valid
+	 * validation.
+	 *
+	 * @param bindingResult the field and global errors
+	 * @return the ApiError response
+	 */
+	static ResponseEntity<Object> validationError(BindingResult bindingResult) {
+		ApiError apiError = new ApiError(BAD_REQUEST);
+		apiError.setMessage("Validation error");
+		apiError.addValidationErrors(bindingResult.getFieldErrors());
+		apiError.addValidationError(bindingResult.getGlobalErrors());
+		return response(apiError);
+	}
+
+	static ResponseEntity<Object> constraintViolation(ConstraintViolationException ex) {
+		ApiError apiError = new ApiError(BAD_REQUEST);
+		apiError.setMessage("Validation error");
+		apiError.addValidationErrors(ex.getConstraintViolations());
+		return response(apiError);
+	}
+
+	static ResponseEntity<Object> entityNotFound(EntityNotFoundException ex) {
+		return withMessage(NOT_FOUND, ex);
+	}
+
+	static ResponseEntity<Object> badRequest(BadRequestException ex) {
+		return withMessage(BAD_REQUEST, ex);
+	}
+
+	static ResponseEntity<Object> unsupportedOperation(UnsupportedOperationException ex) {
+		return withMessage(HttpStatus.UNPROCESSABLE_ENTITY, ex);
+	}
+
+	static ResponseEntity<Object> duplicateKey(DuplicateKeyException ex) {
+		return withMessage(BAD_REQUEST, ex);
+	}
+
+	static ResponseEntity<Object> optimisticLockingFailure(OptimisticLockingFailureException ex) {
+		ApiError apiError = new ApiError(HttpStatus.CONFLICT);
+		apiError.setMessage("The sale was modified concurrently, please retry");
+		apiError.setDebugMessage(ex.getMessage());
+		return response(apiError);
+	}
+
+	static ResponseEntity<Object> dependencyTimeout(DependencyTimeoutException ex) {
+		return withMessage(HttpStatus.GATEWAY_TIMEOUT, ex);
+	}
+
+	static ResponseEntity<Object> dependencyUnavailable(DependencyUnavailableException ex) {
+		return withMessage(HttpStatus.SERVICE_UNAVAILABLE, ex);
+	}
+
+	/**
+	 * Builds a response with the given status and the exception message.
+	 *
+	 * @param status the HTTP status
+	 * @param ex     the exception whose message is returned
+	 * @return the ApiError response
+	 */
+	static ResponseEntity<Object> withMessage(HttpStatus status, Exception ex) {
+		ApiError apiError = new ApiError(status);
+		apiError.setMessage(ex.getMessage());
+		return response(apiError);
+	}
+
+	static ResponseEntity<Object> response(ApiError apiError) {
+		return new ResponseEntity<>(apiError, apiError.getStatus());
+	}
+}
@@ -0,0 +1,20 @@
+package br.com.eaugusto.onlineselling.exception;
+
+/**
+ * Exception thrown when a lookup this service depends on does not answer in
+ * time.
+ * <p>
+ * Mapped to {@code 504 Gateway Timeout}, since the request itself was valid.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class DependencyTimeoutException extends RuntimeException {
+
+	private static final long serialVersionUID = -4162280356410933572L;
+
+	public DependencyTimeoutException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,22 @@
+package br.com.eaugusto.onlineselling.exception;
+
+/**
+ * Exception thrown when a call to a service this service depends on is refused
+ * without being sent, because the circuit breaker of that dependency is open or
+ * its bulkhead is full.
+ * <p>
+ * Mapped to {@code 503 Service Unavailable}, since the request itself was
+ * valid and may succeed once the dependency recovers.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class DependencyUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 6021487759364301258L;
+
+	public DependencyUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,109 @@
+package br.com.eaugusto.onlineselling.exception;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+import org.springframework.web.server.ServerWebExchange;
+
+import br.com.eaugusto.onlineselling.errorhandling.ApiError;
+import reactor.core.publisher.Mono;
+
+/**
+ * Exception handler of the {@code reactive} profile.
+ * <p>
+ * Maps the same exceptions as {@link RestExceptionHandler} to the same
+ * {@link ApiError} responses, built by {@link ApiErrors}, for WebFlux
+ * controllers and {@code WebClient} errors.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ControllerAdvice
+@Profile("reactive")
+public class ReactiveRestExceptionHandler extends ResponseEntityExceptionHandler {
+
+	/**
+	 * Handle WebExchangeBindException. Triggered when a request body fails @Valid
+	 * validation.
+	 *
+	 * @param ex       the WebExchangeBindException
+	 * @param headers  HttpHeaders
+	 * @param status   HttpStatusCode
+	 * @param exchange the current exchange
+	 * @return the ApiError object
+	 */
+	@Override
+	protected Mono<ResponseEntity<Object>> handleWebExchangeBindException(WebExchangeBindException ex,
+			HttpHeaders headers, HttpStatusCode status, ServerWebExchange exchange) {
+		return Mono.just(ApiErrors.validationError(ex.getBindingResult()));
+	}
+
+	@ExceptionHandler(jakarta.validation.ConstraintViolationException.class)
+	protected ResponseEntity<Object> handleConstraintViolation(jakarta.validation.ConstraintViolationException ex) {
+		return ApiErrors.constraintViolation(ex);
+	}
+
+	@ExceptionHandler(EntityNotFoundException.class)
+	protected ResponseEntity<Object> handleEntityNotFound(EntityNotFoundException ex) {
+		return ApiErrors.entityNotFound(ex);
+	}
+
+	@ExceptionHandler(BadRequestException.class)
+	protected ResponseEntity<Object> handleBadRequest(BadRequestException ex) {
+		return ApiErrors.badRequest(ex);
+	}
+
+	@ExceptionHandler(UnsupportedOperationException.class)
+	protected ResponseEntity<Object> handleUnsupportedOperationException(UnsupportedOperationException ex) {
+		return ApiErrors.unsupportedOperation(ex);
+	}
+
+	@ExceptionHandler(DuplicateKeyException.class)
+	protected ResponseEntity<Object> handleDuplicateKeyException(DuplicateKeyException ex) {
+		return ApiErrors.duplicateKey(ex);
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	protected ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+		return ApiErrors.optimisticLockingFailure(ex);
+	}
+
+	@ExceptionHandler(DependencyTimeoutException.class)
+	protected ResponseEntity<Object> handleDependencyTimeout(DependencyTimeoutException ex) {
+		return ApiErrors.dependencyTimeout(ex);
+	}
+
+	@ExceptionHandler(DependencyUnavailableException.class)
+	protected ResponseEntity<Object> handleDependencyUnavailable(DependencyUnavailableException ex) {
+		return ApiErrors.dependencyUnavailable(ex);
+	}
+
+	/**
+	 * Relays 4xx answers of the product and client services with their status,
+	 * like the blocking handler does for {@code RestTemplate} errors.
+	 *
+	 * @param ex the WebClientResponseException
+	 * @return the ApiError object
+	 */
+	@ExceptionHandler(WebClientResponseException.class)
+	protected ResponseEntity<Object> handleWebClientResponse(WebClientResponseException ex) {
+		HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+		if (status == null || !status.is4xxClientError()) {
+			status = HttpStatus.BAD_GATEWAY;
+		}
+		return ApiErrors.withMessage(status, ex);
+	}
+}
@@ -3,9 +3,11 @@ package br.com.eaugusto.onlineselling.exception;
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,8 +30,9 @@ import lombok.extern.slf4j.Slf4j;
  * Global exception handler for REST API.
  * <p>
  * Provides centralized handling for common exceptions such as validation
- * failures, entity not found, duplicate keys, bad requests, and unsupported
- * operations.
+ * failures, entity not found, duplicate keys, bad requests, unsupported
+ * operations, concurrent modifications, and dependencies that time out or are
+ * unavailable.
  * </p>
  * <p>
  * Returns structured {@link ApiError} responses with appropriate HTTP status
@@ -41,6 +44,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Order(Ordered.HIGHEST_PRECEDENCE)
 @ControllerAdvice
+@Profile("!reactive")
 @Slf4j
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
@@ -59,7 +63,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 		String error = ex.getParameterName() + " parameter is missing";
 		ApiError apiError = new ApiError(BAD_REQUEST);
 		apiError.setMessage(error);
-		return buildResponseEntity(apiError);
+		return ApiErrors.response(apiError);
 	}
 
 	/**
@@ -80,7 +84,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 		ex.getSupportedMediaTypes().forEach(t -> builder.append(t).append(", "));
 		ApiError apiError = new ApiError(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
 		apiError.setMessage(builder.substring(0, builder.length() - 2));
-		return buildResponseEntity(apiError);
+		return ApiErrors.response(apiError);
 	}
 
 	/**
@@ -96,17 +100,11 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 	 */
 	protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException ex,
 			HttpHeaders headers, HttpStatus status, WebRequest request) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage("Validation error");
-		apiError.addValidationErrors(ex.getBindingResult().getFieldErrors());
-		apiError.addValidationError(ex.getBindingResult().getGlobalErrors());
-		return buildResponseEntity(apiError);
+		return ApiErrors.validationError(ex.getBindingResult());
 	}
 
 	protected ResponseEntity<Object> handleBindException(BindException ex) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.withMessage(BAD_REQUEST, ex);
 	}
 
 	/**
@@ -118,10 +116,7 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 	 */
 	@ExceptionHandler(jakarta.validation.ConstraintViolationException.class)
 	protected ResponseEntity<Object> handleConstraintViolation(jakarta.validation.ConstraintViolationException ex) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage("Validation error");
-		apiError.addValidationErrors(ex.getConstraintViolations());
-		return buildResponseEntity(apiError);
+		return ApiErrors.constraintViolation(ex);
 	}
 
 	/**
@@ -133,54 +128,51 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 	 */
 	@ExceptionHandler(EntityNotFoundException.class)
 	protected ResponseEntity<Object> handleEntityNotFound(EntityNotFoundException ex) {
-		ApiError apiError = new ApiError(NOT_FOUND);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.entityNotFound(ex);
 	}
 
 	@ExceptionHandler(BadRequestException.class)
 	protected ResponseEntity<Object> handleBadRequest(BadRequestException ex) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.badRequest(ex);
 	}
 
 	@ExceptionHandler(UnsupportedOperationException.class)
 	protected ResponseEntity<Object> handleUnsupportedOperationException(UnsupportedOperationException ex) {
-		ApiError apiError = new ApiError(HttpStatus.UNPROCESSABLE_ENTITY);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.unsupportedOperation(ex);
 	}
 
 	@ExceptionHandler(DuplicateKeyException.class)
 	protected ResponseEntity<Object> handleDuplicateKeyException(DuplicateKeyException ex) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.duplicateKey(ex);
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	protected ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+		return ApiErrors.optimisticLockingFailure(ex);
+	}
+
+	@ExceptionHandler(DependencyTimeoutException.class)
+	protected ResponseEntity<Object> handleDependencyTimeout(DependencyTimeoutException ex) {
+		return ApiErrors.dependencyTimeout(ex);
+	}
+
+	@ExceptionHandler(DependencyUnavailableException.class)
+	protected ResponseEntity<Object> handleDependencyUnavailable(DependencyUnavailableException ex) {
+		return ApiErrors.dependencyUnavailable(ex);
 	}
 
 	@ExceptionHandler(NotFound.class)
 	protected ResponseEntity<Object> handleNotFound(NotFound ex) {
-		ApiError apiError = new ApiError(NOT_FOUND);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.withMessage(NOT_FOUND, ex);
 	}
 
 	@ExceptionHandler(BadRequest.class)
 	protected ResponseEntity<Object> handleBadRequest(BadRequest ex) {
-		ApiError apiError = new ApiError(BAD_REQUEST);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
+		return ApiErrors.withMessage(BAD_REQUEST, ex);
 	}
 
 	@ExceptionHandler(UnprocessableEntity.class)
 	protected ResponseEntity<Object> handleUnprocessableEntity(UnprocessableEntity ex) {
-		ApiError apiError = new ApiError(HttpStatus.UNPROCESSABLE_ENTITY);
-		apiError.setMessage(ex.getMessage());
-		return buildResponseEntity(apiError);
-	}
-
-	private ResponseEntity<Object> buildResponseEntity(ApiError apiError) {
-		return new ResponseEntity<>(apiError, apiError.getStatus());
+		return ApiErrors.withMessage(HttpStatus.UNPROCESSABLE_ENTITY, ex);
 	}
 }
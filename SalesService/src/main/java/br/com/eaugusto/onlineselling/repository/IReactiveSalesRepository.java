@@ -0,0 +1,45 @@
+package br.com.eaugusto.onlineselling.repository;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.stereotype.Repository;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking repository for {@link Sales} entities, used by the
+ * {@code reactive} profile.
+ * <p>
+ * Maps the same collection as {@link ISalesRepository}. Pages are streamed as
+ * they are read from the cursor instead of being collected together with a
+ * total count.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Repository
+public interface IReactiveSalesRepository extends ReactiveMongoRepository<Sales, String> {
+
+	Mono<Sales> searchByCode(String code);
+
+	Flux<Sales> findAllBy(Pageable pageable);
+
+	@Query(value = "{}", fields = SalesSummaryDTO.FIELDS)
+	Flux<SalesSummaryDTO> findSummariesBy(Pageable pageable);
+
+	/**
+	 * Reads one keyset window. The explicit empty filter works around derived
+	 * queries without criteria, whose filter cannot take the keyset condition.
+	 */
+	@Query("{}")
+	Mono<Window<Sales>> findAllBy(ScrollPosition position, Limit limit, Sort sort);
+}
@@ -2,23 +2,60 @@ package br.com.eaugusto.onlineselling.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
 
 /**
  * Repository interface for managing {@link Sales} entities in MongoDB.
  * <p>
  * Extends {@link MongoRepository} to provide basic CRUD operations and adds a
- * custom query method for searching a sale by code.
+ * custom query method for searching a sale by code, count-free slices, summary
+ * projections, and keyset windows for cursor-based listing. In-place line item
+ * updates are provided by {@link ISalesRepositoryCustom}.
  * </p>
  *
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
 @Repository
-public interface ISalesRepository extends MongoRepository<Sales, String> {
+public interface ISalesRepository extends MongoRepository<Sales, String>, ISalesRepositoryCustom {
 
 	Optional<Sales> searchByCode(String code);
+
+	/**
+	 * Redeclared so that calls resolve to the {@link ISalesRepositoryCustom}
+	 * implementation, which also saves sales stored without a version.
+	 */
+	@Override
+	<S extends Sales> S save(S sale);
+
+	/**
+	 * Reads one page without counting the collection. One extra sale is fetched
+	 * to tell whether a next page exists.
+	 */
+	Slice<Sales> findAllBy(Pageable pageable);
+
+	/**
+	 * Reads one page of sale summaries. Only the summary fields are projected,
+	 * so line items are never sent back.
+	 */
+	@Query(value = "{}", fields = SalesSummaryDTO.FIELDS)
+	Slice<SalesSummaryDTO> findSummariesBy(Pageable pageable);
+
+	/**
+	 * Reads one keyset window. The explicit empty filter works around derived
+	 * queries without criteria, whose filter cannot take the keyset condition.
+	 */
+	@Query("{}")
+	Window<Sales> findAllBy(ScrollPosition position, Limit limit, Sort sort);
 }
@@ -0,0 +1,73 @@
+package br.com.eaugusto.onlineselling.repository;
+
+import java.util.Optional;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+
+/**
+ * Custom repository fragment with in-place updates for {@link Sales} line
+ * items.
+ * <p>
+ * Each operation is a single conditional {@code findAndModify} guarded by
+ * {@code status: STARTED}. When the guard does not match (sale missing, not
+ * started, or the line item not in the expected state) an empty
+ * {@link Optional} is returned and nothing is written, so callers can fall back
+ * to loading the sale and applying the domain rules in memory. Successful
+ * updates increment the sale version.
+ * </p>
+ * <p>
+ * Also overrides {@code save}, so that sales stored before optimistic locking
+ * was introduced are updated instead of inserted again.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public interface ISalesRepositoryCustom {
+
+	/**
+	 * Increments the quantity of an existing line item whose stored price matches
+	 * the given product, adjusting both the line and the sale totals.
+	 *
+	 * @param saleId   the sale ID
+	 * @param product  the product being added
+	 * @param quantity the quantity to add
+	 * @return the updated sale, or empty if no line item matched
+	 */
+	Optional<Sales> incrementProductQuantity(String saleId, Product product, int quantity);
+
+	/**
+	 * Appends a new line item for a product not yet present in the sale.
+	 *
+	 * @param saleId   the sale ID
+	 * @param product  the product being added
+	 * @param quantity the initial quantity
+	 * @return the updated sale, or empty if the sale already holds the product
+	 */
+	Optional<Sales> pushProductQuantity(String saleId, Product product, int quantity);
+
+	/**
+	 * Decrements the quantity of an existing line item that holds more than the
+	 * given quantity, adjusting both the line and the sale totals.
+	 *
+	 * @param saleId   the sale ID
+	 * @param product  the product being removed
+	 * @param quantity the quantity to remove
+	 * @return the updated sale, or empty if no line item matched
+	 */
+	Optional<Sales> decrementProductQuantity(String saleId, Product product, int quantity);
+
+	/**
+	 * Saves a sale. A sale read from a document without a {@code version} would
+	 * be taken for a new sale and inserted again, failing on its id. The stored
+	 * document is given version 0 first, so the sale is then updated like any
+	 * other, and a concurrent save of the same sale fails with an optimistic
+	 * locking conflict.
+	 *
+	 * @param <S>  the sale type
+	 * @param sale the sale to save
+	 * @return the saved sale
+	 */
+	<S extends Sales> S save(S sale);
+}
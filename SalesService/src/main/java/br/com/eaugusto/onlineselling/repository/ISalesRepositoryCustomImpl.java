@@ -0,0 +1,110 @@
+package br.com.eaugusto.onlineselling.repository;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.ProductQuantity;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+
+/**
+ * {@link MongoTemplate} based implementation of {@link ISalesRepositoryCustom}.
+ * <p>
+ * Line items are matched by product code and stored price, so the amounts
+ * applied with {@code $inc} are exactly the ones {@link ProductQuantity} would
+ * compute in memory. The sale totals are adjusted by the same deltas. Sales
+ * without a stored total quantity are left to the whole-document path, which
+ * recomputes it. Every update also bumps the sale version, so concurrent
+ * whole-document saves of the same sale detect the change.
+ * </p>
+ * <p>
+ * Whole-document saves go through {@link #save(Sales)}, which gives sales
+ * stored without a version their initial version in place before saving them.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class ISalesRepositoryCustomImpl implements ISalesRepositoryCustom {
+
+	private static final String PRODUCTS = "productsSet";
+	private static final String MATCHED_PRODUCT = PRODUCTS + ".$.";
+	private static final String TOTAL_QUANTITY = "totalQuantity";
+	private static final String VERSION = "version";
+
+	private final MongoTemplate mongoTemplate;
+
+	public ISalesRepositoryCustomImpl(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public Optional<Sales> incrementProductQuantity(String saleId, Product product, int quantity) {
+		Query query = startedSale(saleId).addCriteria(where(PRODUCTS).elemMatch(sameProduct(product)));
+		BigDecimal amount = amountOf(product, quantity);
+		Update update = new Update().inc(MATCHED_PRODUCT + "quantity", quantity)
+				.inc(MATCHED_PRODUCT + "totalPrice", amount).inc("totalPrice", amount)
+				.inc(TOTAL_QUANTITY, quantity);
+		return modify(query, update);
+	}
+
+	@Override
+	public Optional<Sales> pushProductQuantity(String saleId, Product product, int quantity) {
+		Query query = startedSale(saleId).addCriteria(where(PRODUCTS + ".product.code").ne(product.getCode()));
+		ProductQuantity productQuantity = ProductQuantity.builder().product(product).quantity(0)
+				.totalPrice(BigDecimal.ZERO).build();
+		productQuantity.addQuantity(quantity);
+		Update update = new Update().push(PRODUCTS, productQuantity)
+				.inc("totalPrice", productQuantity.getTotalPrice()).inc(TOTAL_QUANTITY, quantity);
+		return modify(query, update);
+	}
+
+	@Override
+	public Optional<Sales> decrementProductQuantity(String saleId, Product product, int quantity) {
+		Query query = startedSale(saleId)
+				.addCriteria(where(PRODUCTS).elemMatch(sameProduct(product).and("quantity").gt(quantity)));
+		BigDecimal amount = amountOf(product, quantity).negate();
+		Update update = new Update().inc(MATCHED_PRODUCT + "quantity", -quantity)
+				.inc(MATCHED_PRODUCT + "totalPrice", amount).inc("totalPrice", amount)
+				.inc(TOTAL_QUANTITY, -quantity);
+		return modify(query, update);
+	}
+
+	@Override
+	public <S extends Sales> S save(S sale) {
+		if (sale.getId() != null && sale.getVersion() == null) {
+			mongoTemplate.updateFirst(new Query(where("id").is(sale.getId()).and(VERSION).exists(false)),
+					new Update().set(VERSION, 0L), Sales.class);
+			sale.setVersion(0L);
+		}
+		return mongoTemplate.save(sale);
+	}
+
+	private Query startedSale(String saleId) {
+		return new Query(
+				where("id").is(saleId).and("status").is(Status.STARTED).and(TOTAL_QUANTITY).exists(true));
+	}
+
+	private Criteria sameProduct(Product product) {
+		return where("product.code").is(product.getCode()).and("product.price").is(product.getPrice());
+	}
+
+	private BigDecimal amountOf(Product product, int quantity) {
+		return product.getPrice().multiply(BigDecimal.valueOf(quantity));
+	}
+
+	private Optional<Sales> modify(Query query, Update update) {
+		update.inc(VERSION, 1);
+		return Optional.ofNullable(
+				mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().returnNew(true), Sales.class));
+	}
+}
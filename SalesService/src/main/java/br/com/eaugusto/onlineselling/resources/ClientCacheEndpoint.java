@@ -0,0 +1,48 @@
+package br.com.eaugusto.onlineselling.resources;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import br.com.eaugusto.onlineselling.services.ClientRegistrationCache;
+
+/**
+ * Actuator endpoint for invalidating the {@link ClientRegistrationCache}.
+ * <p>
+ * Exposed at {@code /actuator/clientcache}. {@code DELETE} on the endpoint
+ * drops every cached check, {@code DELETE /actuator/clientcache/{clientId}}
+ * drops a single client, e.g. after it was removed from ClientService.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+@Endpoint(id = "clientcache")
+public class ClientCacheEndpoint {
+
+	private final ClientRegistrationCache registrationCache;
+
+	public ClientCacheEndpoint(ClientRegistrationCache registrationCache) {
+		this.registrationCache = registrationCache;
+	}
+
+	@ReadOperation
+	public Map<String, Integer> capacity() {
+		return Map.of("capacity", registrationCache.capacity());
+	}
+
+	@DeleteOperation
+	public void invalidateAll() {
+		registrationCache.invalidateAll();
+	}
+
+	@DeleteOperation
+	public void invalidate(@Selector String clientId) {
+		registrationCache.invalidate(clientId);
+	}
+}
@@ -0,0 +1,229 @@
+package br.com.eaugusto.onlineselling.resources;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
+import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.usecases.ReactiveRegisterSale;
+import br.com.eaugusto.onlineselling.usecases.ReactiveSearchSale;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking REST controller for sales, serving the {@link SalesResources}
+ * endpoints when the {@code reactive} profile is active.
+ * <p>
+ * The sales list is written as it is read from MongoDB, as a JSON array or, for
+ * {@code Accept: application/x-ndjson}, one sale per line. The cursor only
+ * advances as fast as the client consumes the response, and there is no page
+ * envelope, since its total would cost a count query on every request.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/sales")
+public class ReactiveSalesResources {
+
+	private final ReactiveSearchSale searchSale;
+	private final ReactiveRegisterSale registerSale;
+
+	public ReactiveSalesResources(ReactiveSearchSale searchSale, ReactiveRegisterSale registerSale) {
+		this.searchSale = searchSale;
+		this.registerSale = registerSale;
+	}
+
+	/**
+	 * Streams one page of sales, as a JSON array or as newline-delimited JSON.
+	 *
+	 * @param pageable pagination information
+	 * @return the sales of the page
+	 */
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	@Operation(summary = "Lists all registered Sales", description = "Returns the sales of the page without a page envelope. Send Accept: application/x-ndjson to receive one sale per line.")
+	@ApiResponse(responseCode = "200", description = "Sales of the page")
+	public Flux<Sales> searchAllSales(Pageable pageable) {
+		return searchSale.searchAllSales(pageable);
+	}
+
+	/**
+	 * Streams one page of sale summaries: code, client, status, totals and date,
+	 * without line items.
+	 *
+	 * @param pageable pagination information
+	 * @return the sale summaries of the page
+	 */
+	@GetMapping(value = "/summary", produces = { MediaType.APPLICATION_JSON_VALUE,
+			MediaType.APPLICATION_NDJSON_VALUE })
+	@Operation(summary = "Lists summaries of all registered Sales", description = "Returns only code, client, status, totals and date of each sale; line items are not read. Send Accept: application/x-ndjson to receive one summary per line.")
+	@ApiResponse(responseCode = "200", description = "Sale summaries of the page")
+	public Flux<SalesSummaryDTO> searchSalesSummaries(Pageable pageable) {
+		return searchSale.searchSalesSummaries(pageable);
+	}
+
+	/**
+	 * Exports every sale matching the filters as newline-delimited JSON, streamed
+	 * from a single database cursor in sale date and id order.
+	 *
+	 * @param status    only sales with this status, omitted for all
+	 * @param from      only sales on or after this instant, omitted for no lower
+	 *                  bound
+	 * @param to        only sales before this instant, omitted for no upper bound
+	 * @param batchSize the number of sales fetched per cursor batch, omitted for
+	 *                  the configured default
+	 * @return one sale per line
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Exports Sales as newline-delimited JSON", description = "Streams every matching sale, one JSON document per line. Example: /sales/export?status=FINISHED&from=2025-08-01T00:00:00Z&to=2025-09-01T00:00:00Z")
+	@ApiResponse(responseCode = "200", description = "Stream of sales")
+	@ApiResponse(responseCode = "400", description = "Invalid filter or batch size")
+	public Flux<Sales> exportSales(@RequestParam(required = false) Status status,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant from,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant to,
+			@RequestParam(required = false) Integer batchSize) {
+		return searchSale.exportSales(status, from, to, batchSize);
+	}
+
+	/**
+	 * Retrieves sales one window at a time, ordered by sale date and id, without
+	 * the skip of page-based listing.
+	 *
+	 * @param cursor the cursor returned with the previous window, omitted for the
+	 *               first window
+	 * @param size   the maximum number of sales in the window
+	 * @return the sales and the cursor of the next window
+	 */
+	@GetMapping("/scroll")
+	@Operation(summary = "Lists all registered Sales with a cursor", description = "Pass the returned nextCursor as cursor to read the next window; it is null on the last window.")
+	@ApiResponse(responseCode = "200", description = "Window of sales")
+	@ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+	public Mono<CursorPageDTO<Sales>> scrollAllSales(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int size) {
+		return searchSale.scrollAllSales(cursor, size);
+	}
+
+	/**
+	 * Finds a sale by its unique code.
+	 *
+	 * @param saleCode the sale code
+	 * @return the matching sale
+	 */
+	@GetMapping("/code/{saleCode}")
+	@Operation(summary = "Find a sale by its Code")
+	public Mono<Sales> searchSaleByCode(@PathVariable String saleCode) {
+		return searchSale.searchByCode(saleCode);
+	}
+
+	/**
+	 * Registers a new sale.
+	 *
+	 * @param saleDTO the sale data
+	 * @return the registered sale
+	 */
+	@PostMapping
+	@Operation(summary = "Registers a new Sale", description = "Registers a Sale. Example: {\"code\":\"S001\", \"clientId\":\"1234\", \"saleDate\":\"2025-08-14T10:00:00Z\"}")
+	@ApiResponse(responseCode = "200", description = "Sale registered successfully", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, examples = @ExampleObject(value = "{\"id\":\"abc123\", \"code\":\"S001\", \"clientId\":\"1234\", \"status\":\"STARTED\", \"totalPrice\":0.0}")))
+	@ApiResponse(responseCode = "400", description = "Invalid request data")
+	@ApiResponse(responseCode = "404", description = "Client not found")
+	public Mono<Sales> registerSale(@RequestBody @Valid SalesDTO saleDTO) {
+		return registerSale.registerSale(saleDTO);
+	}
+
+	/**
+	 * Marks a sale as finished.
+	 *
+	 * @param saleId the ID of the sale
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/finish")
+	@Operation(summary = "Finish a Sale")
+	public Mono<Sales> finishSale(@PathVariable String saleId) {
+		return registerSale.finishSale(saleId);
+	}
+
+	/**
+	 * Cancels a sale.
+	 *
+	 * @param saleId the ID of the sale
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/cancel")
+	@Operation(summary = "Cancel a Sale")
+	public Mono<Sales> cancelSale(@PathVariable String saleId) {
+		return registerSale.cancelSale(saleId);
+	}
+
+	/**
+	 * Adds a product to a sale.
+	 *
+	 * @param saleId      the ID of the sale
+	 * @param productCode the code of the product
+	 * @param quantity    the quantity to add
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/products/{productCode}/add/{quantity}")
+	@Operation(summary = "Add a Product to a Sale")
+	public Mono<Sales> addProduct(@PathVariable String saleId, @PathVariable String productCode,
+			@PathVariable Integer quantity) {
+		return registerSale.addProduct(saleId, productCode, quantity);
+	}
+
+	/**
+	 * Removes a product from a sale.
+	 *
+	 * @param saleId      the ID of the sale
+	 * @param productCode the code of the product
+	 * @param quantity    the quantity to remove
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/products/{productCode}/remove/{quantity}")
+	@Operation(summary = "Remove a Product from a Sale")
+	public Mono<Sales> removeProduct(@PathVariable String saleId, @PathVariable String productCode,
+			@PathVariable Integer quantity) {
+		return registerSale.removeProduct(saleId, productCode, quantity);
+	}
+
+	/**
+	 * Applies several product changes to a sale in one request.
+	 *
+	 * @param saleId  the ID of the sale
+	 * @param changes the product codes and the quantity to add (positive) or
+	 *                remove (negative) for each
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/products")
+	@Operation(summary = "Add or remove several Products of a Sale", description = "Applies every change or none. Example: [{\"code\":\"P001\", \"delta\":2}, {\"code\":\"P002\", \"delta\":-1}]")
+	@ApiResponse(responseCode = "200", description = "Sale updated successfully")
+	@ApiResponse(responseCode = "400", description = "Invalid product changes")
+	@ApiResponse(responseCode = "404", description = "Sale or product not found")
+	public Mono<Sales> updateProducts(@PathVariable String saleId,
+			@RequestBody List<@Valid ProductChangeDTO> changes) {
+		return registerSale.updateProducts(saleId, changes);
+	}
+}
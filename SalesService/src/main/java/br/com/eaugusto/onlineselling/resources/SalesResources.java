@@ -1,7 +1,13 @@
 package br.com.eaugusto.onlineselling.resources;
 
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,10 +16,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
 import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.usecases.ExportSales;
 import br.com.eaugusto.onlineselling.usecases.RegisterSale;
 import br.com.eaugusto.onlineselling.usecases.SearchSale;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,15 +48,18 @@ import jakarta.validation.Valid;
  * @since Aug 14, 2025
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/sales")
 public class SalesResources {
 
 	private final SearchSale searchSale;
 	private final RegisterSale registerSale;
+	private final ExportSales exportSales;
 
-	public SalesResources(SearchSale searchSale, RegisterSale registerSale) {
+	public SalesResources(SearchSale searchSale, RegisterSale registerSale, ExportSales exportSales) {
 		this.searchSale = searchSale;
 		this.registerSale = registerSale;
+		this.exportSales = exportSales;
 	}
 
 	/**
@@ -56,6 +74,86 @@ public class SalesResources {
 		return ResponseEntity.ok(searchSale.searchAllSales(pageable));
 	}
 
+	/**
+	 * Retrieves one page of sales without the count query of
+	 * {@link #searchAllSales(Pageable)}.
+	 *
+	 * @param pageable pagination information
+	 * @param total    how the total is obtained: {@code NONE},
+	 *                 {@code ESTIMATED} or {@code CACHED}
+	 * @return the sales of the page, whether a next page exists and the
+	 *         requested total
+	 */
+	@GetMapping("/slice")
+	@Operation(summary = "Lists all registered Sales without counting them", description = "Returns hasNext instead of a page count. Pass total=ESTIMATED or total=CACHED to include an approximate total; totalSource tells which one was used.")
+	@ApiResponse(responseCode = "200", description = "Page of sales")
+	@ApiResponse(responseCode = "400", description = "Invalid total source")
+	public ResponseEntity<SliceDTO<Sales>> sliceAllSales(Pageable pageable,
+			@RequestParam(defaultValue = "NONE") TotalSource total) {
+		return ResponseEntity.ok(searchSale.sliceAllSales(pageable, total));
+	}
+
+	/**
+	 * Retrieves one page of sale summaries: code, client, status, totals and
+	 * date, without line items.
+	 *
+	 * @param pageable pagination information
+	 * @param total    how the total is obtained: {@code NONE},
+	 *                 {@code ESTIMATED} or {@code CACHED}
+	 * @return the sale summaries of the page, whether a next page exists and
+	 *         the requested total
+	 */
+	@GetMapping("/summary")
+	@Operation(summary = "Lists summaries of all registered Sales", description = "Returns only code, client, status, totals and date of each sale; line items are not read. Paged like /sales/slice.")
+	@ApiResponse(responseCode = "200", description = "Page of sale summaries")
+	@ApiResponse(responseCode = "400", description = "Invalid total source")
+	public ResponseEntity<SliceDTO<SalesSummaryDTO>> searchSalesSummaries(Pageable pageable,
+			@RequestParam(defaultValue = "NONE") TotalSource total) {
+		return ResponseEntity.ok(searchSale.searchSalesSummaries(pageable, total));
+	}
+
+	/**
+	 * Exports every sale matching the filters as newline-delimited JSON, streamed
+	 * from a single database cursor in sale date and id order.
+	 *
+	 * @param status    only sales with this status, omitted for all
+	 * @param from      only sales on or after this instant, omitted for no lower
+	 *                  bound
+	 * @param to        only sales before this instant, omitted for no upper bound
+	 * @param batchSize the number of sales fetched per cursor batch, omitted for
+	 *                  the configured default
+	 * @return one sale per line
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Exports Sales as newline-delimited JSON", description = "Streams every matching sale, one JSON document per line. Example: /sales/export?status=FINISHED&from=2025-08-01T00:00:00Z&to=2025-09-01T00:00:00Z")
+	@ApiResponse(responseCode = "200", description = "Stream of sales")
+	@ApiResponse(responseCode = "400", description = "Invalid filter or batch size")
+	public ResponseEntity<StreamingResponseBody> exportSales(@RequestParam(required = false) Status status,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant from,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) Instant to,
+			@RequestParam(required = false) Integer batchSize) {
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON)
+				.body(exportSales.exportSales(status, from, to, batchSize));
+	}
+
+	/**
+	 * Retrieves sales one window at a time, ordered by sale date and id, without
+	 * the skip and count of page-based listing.
+	 *
+	 * @param cursor the cursor returned with the previous window, omitted for the
+	 *               first window
+	 * @param size   the maximum number of sales in the window
+	 * @return the sales and the cursor of the next window
+	 */
+	@GetMapping("/scroll")
+	@Operation(summary = "Lists all registered Sales with a cursor", description = "Pass the returned nextCursor as cursor to read the next window; it is null on the last window.")
+	@ApiResponse(responseCode = "200", description = "Window of sales")
+	@ApiResponse(responseCode = "400", description = "Invalid cursor or size")
+	public ResponseEntity<CursorPageDTO<Sales>> scrollAllSales(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int size) {
+		return ResponseEntity.ok(searchSale.scrollAllSales(cursor, size));
+	}
+
 	/**
 	 * Finds a sale by its unique code.
 	 *
@@ -136,4 +234,22 @@ public class SalesResources {
 			@PathVariable Integer quantity) {
 		return ResponseEntity.ok(registerSale.removeProduct(saleId, productCode, quantity));
 	}
+
+	/**
+	 * Applies several product changes to a sale in one request.
+	 *
+	 * @param saleId  the ID of the sale
+	 * @param changes the product codes and the quantity to add (positive) or
+	 *                remove (negative) for each
+	 * @return the updated sale
+	 */
+	@PutMapping("/{saleId}/products")
+	@Operation(summary = "Add or remove several Products of a Sale", description = "Applies every change or none. Example: [{\"code\":\"P001\", \"delta\":2}, {\"code\":\"P002\", \"delta\":-1}]")
+	@ApiResponse(responseCode = "200", description = "Sale updated successfully")
+	@ApiResponse(responseCode = "400", description = "Invalid product changes")
+	@ApiResponse(responseCode = "404", description = "Sale or product not found")
+	public ResponseEntity<Sales> updateProducts(@PathVariable String saleId,
+			@RequestBody List<@Valid ProductChangeDTO> changes) {
+		return ResponseEntity.ok(registerSale.updateProducts(saleId, changes));
+	}
 }
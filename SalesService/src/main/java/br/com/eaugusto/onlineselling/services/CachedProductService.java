@@ -0,0 +1,172 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process cache of product snapshots placed in front of the remote
+ * {@link IProductService} Feign client.
+ * <p>
+ * Registered as the primary {@link IProductService}, so use cases keep
+ * depending on the interface and transparently read from the cache. Entries are
+ * bounded by size and expire after a configurable time. Once an entry is older
+ * than the refresh interval, the next lookup still returns it and reloads it in
+ * the background (stale-while-revalidate) on the application task executor,
+ * which runs on virtual threads when they are enabled.
+ * </p>
+ *
+ * <p>
+ * Codes unknown to the product service are cached as negative entries with a
+ * shorter lifetime, so repeated lookups of a bad code do not reach the network
+ * either. Batch lookups only send the codes that are not cached yet to the
+ * product service, in one request. Calls to the product service go through the
+ * {@link DependencyGuard}. Hit, miss, load and eviction statistics are
+ * published under the {@code products} cache name.
+ * </p>
+ *
+ * <p>
+ * Concurrent single lookups of a code that is not cached share one load through
+ * a {@link SingleFlight} named {@code products}: the callers that arrive while
+ * it runs wait for its result, or its failure, without taking the cache lock
+ * and without calling the product service again. They are not counted in the
+ * cache statistics.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Primary
+@Service
+@Profile("!reactive")
+public class CachedProductService implements IProductService {
+
+	private final IProductService remoteProductService;
+	private final DependencyGuard dependencyGuard;
+	private final LoadingCache<String, Optional<Product>> products;
+	private final SingleFlight<String, Optional<Product>> productLookups;
+
+	public CachedProductService(@Qualifier("remoteProductService") IProductService remoteProductService,
+			@Value("${application.productCache.maximumSize:10000}") long maximumSize,
+			@Value("${application.productCache.expireAfterWrite:10m}") Duration expireAfterWrite,
+			@Value("${application.productCache.refreshAfterWrite:1m}") Duration refreshAfterWrite,
+			@Value("${application.productCache.negativeExpireAfterWrite:30s}") Duration negativeExpireAfterWrite,
+			@Qualifier("applicationTaskExecutor") Executor refreshExecutor, MeterRegistry meterRegistry,
+			DependencyGuard dependencyGuard) {
+		this.remoteProductService = remoteProductService;
+		this.dependencyGuard = dependencyGuard;
+		this.products = Caffeine.newBuilder().maximumSize(maximumSize).executor(refreshExecutor)
+				.expireAfter(new SnapshotExpiry(expireAfterWrite, negativeExpireAfterWrite))
+				.refreshAfterWrite(refreshAfterWrite).recordStats().build(new SnapshotLoader());
+		CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+		this.productLookups = new SingleFlight<>("products", meterRegistry);
+	}
+
+	/**
+	 * Returns the cached snapshot of a product, loading it on a miss. A miss
+	 * waits for a load of the same code that is already running.
+	 *
+	 * @param productCode the product code
+	 * @return the product, or {@code null} if the product service does not know
+	 *         the code
+	 */
+	@Override
+	public Product findProductByCode(String productCode) {
+		if (products.policy().getIfPresentQuietly(productCode) == null) {
+			return productLookups.execute(productCode, () -> products.get(productCode)).orElse(null);
+		}
+		return products.get(productCode).orElse(null);
+	}
+
+	/**
+	 * Returns the cached snapshots of many products. Codes missing from the cache
+	 * are loaded together with a single batch request.
+	 *
+	 * @param productCodes the product codes
+	 * @return the products found, in the order of the requested codes
+	 */
+	@Override
+	public List<Product> findProductsByCodes(Collection<String> productCodes) {
+		return products.getAll(productCodes).values().stream().flatMap(Optional::stream).toList();
+	}
+
+	/**
+	 * Drops the cached snapshot of a product.
+	 *
+	 * @param productCode the product code
+	 */
+	public void invalidate(String productCode) {
+		products.invalidate(productCode);
+	}
+
+	/**
+	 * Loads single codes with the single lookup and several codes with the batch
+	 * endpoint, caching every requested code that was not found as empty.
+	 */
+	private class SnapshotLoader implements CacheLoader<String, Optional<Product>> {
+
+		@Override
+		public Optional<Product> load(String productCode) {
+			try {
+				return Optional.ofNullable(dependencyGuard.call(DependencyGuard.PRODUCT_SERVICE,
+						() -> remoteProductService.findProductByCode(productCode)));
+			} catch (FeignException.NotFound ex) {
+				return Optional.empty();
+			}
+		}
+
+		@Override
+		public Map<String, Optional<Product>> loadAll(Set<? extends String> productCodes) {
+			Map<String, Optional<Product>> snapshots = new HashMap<>();
+			productCodes.forEach(code -> snapshots.put(code, Optional.empty()));
+			dependencyGuard.call(DependencyGuard.PRODUCT_SERVICE,
+					() -> remoteProductService.findProductsByCodes(List.copyOf(productCodes)))
+					.forEach(product -> snapshots.put(product.getCode(), Optional.of(product)));
+			return snapshots;
+		}
+	}
+
+	/**
+	 * Gives found products and unknown codes different lifetimes.
+	 */
+	record SnapshotExpiry(Duration found, Duration notFound) implements Expiry<String, Optional<Product>> {
+
+		@Override
+		public long expireAfterCreate(String code, Optional<Product> product, long currentTime) {
+			return (product.isPresent() ? found : notFound).toNanos();
+		}
+
+		@Override
+		public long expireAfterUpdate(String code, Optional<Product> product, long currentTime,
+				long currentDuration) {
+			return expireAfterCreate(code, product, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String code, Optional<Product> product, long currentTime,
+				long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,257 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compact in-process cache of client registration checks.
+ * <p>
+ * Client ids are MongoDB ObjectIds, i.e. 24 hexadecimal characters, so each key
+ * is packed into 12 bytes. Together with a 4 byte stamp holding the expiry time
+ * in seconds and the registered flag, an entry takes two {@code long} slots (16
+ * bytes) in preallocated arrays, with no per-entry objects. Registered clients
+ * are kept for a long time, unknown clients only briefly, so a client created
+ * right after a failed check is picked up quickly.
+ * </p>
+ *
+ * <p>
+ * The table is two-way set associative: a key may live in one of two adjacent
+ * slots, and a new key replaces the entry that expires first. Ids that are not
+ * ObjectIds are never cached. Reads are optimistic and only fall back to a read
+ * lock when they race with a write.
+ * </p>
+ *
+ * <p>
+ * Publishes the {@code client.registration.cache.gets} counter tagged with
+ * {@code result=hit|miss}.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+public class ClientRegistrationCache {
+
+	private static final int OBJECT_ID_LENGTH = 24;
+	private static final long REGISTERED = 1L;
+
+	private final long[] keys;
+	private final long[] entries;
+	private final int mask;
+	private final long registeredTtlSeconds;
+	private final long notRegisteredTtlSeconds;
+	private final LongSupplier nanoTicker;
+	private final long originNanos;
+	private final StampedLock lock = new StampedLock();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	@Autowired
+	public ClientRegistrationCache(@Value("${application.clientCache.maximumSize:65536}") int maximumSize,
+			@Value("${application.clientCache.registeredTtl:12h}") Duration registeredTtl,
+			@Value("${application.clientCache.notRegisteredTtl:30s}") Duration notRegisteredTtl,
+			MeterRegistry meterRegistry) {
+		this(maximumSize, registeredTtl, notRegisteredTtl, System::nanoTime);
+		FunctionCounter.builder("client.registration.cache.gets", hits, LongAdder::sum).tag("result", "hit")
+				.description("Client registration checks answered from the cache").register(meterRegistry);
+		FunctionCounter.builder("client.registration.cache.gets", misses, LongAdder::sum).tag("result", "miss")
+				.description("Client registration checks that had to ask the client service").register(meterRegistry);
+	}
+
+	public ClientRegistrationCache(int maximumSize, Duration registeredTtl, Duration notRegisteredTtl,
+			LongSupplier nanoTicker) {
+		int capacity = Integer.highestOneBit(Math.max(2, maximumSize - 1)) << 1;
+		this.keys = new long[capacity];
+		this.entries = new long[capacity];
+		this.mask = capacity - 1;
+		this.registeredTtlSeconds = Math.max(1, registeredTtl.toSeconds());
+		this.notRegisteredTtlSeconds = Math.max(1, notRegisteredTtl.toSeconds());
+		this.nanoTicker = nanoTicker;
+		this.originNanos = nanoTicker.getAsLong();
+	}
+
+	/**
+	 * Looks up a cached registration check.
+	 *
+	 * @param clientId the client ID
+	 * @return whether the client is registered, or {@code null} if unknown
+	 */
+	public Boolean get(String clientId) {
+		if (!isObjectId(clientId)) {
+			misses.increment();
+			return null;
+		}
+		long high = keyHigh(clientId);
+		long low = keyLow(clientId);
+		int slot = slotOf(high, low);
+
+		long stamp = lock.tryOptimisticRead();
+		long entry = find(slot, high, low);
+		if (!lock.validate(stamp)) {
+			stamp = lock.readLock();
+			try {
+				entry = find(slot, high, low);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		if (entry == 0 || expiresAt(entry) <= nowSeconds()) {
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		return Boolean.valueOf((entry & REGISTERED) != 0);
+	}
+
+	/**
+	 * Caches the result of a registration check.
+	 *
+	 * @param clientId   the client ID
+	 * @param registered whether the client is registered
+	 */
+	public void put(String clientId, boolean registered) {
+		if (!isObjectId(clientId)) {
+			return;
+		}
+		long high = keyHigh(clientId);
+		long low = keyLow(clientId);
+		long expiresAt = nowSeconds() + (registered ? registeredTtlSeconds : notRegisteredTtlSeconds);
+		long entry = low | ((expiresAt << 1) & 0xFFFFFFFFL) | (registered ? REGISTERED : 0);
+		int slot = slotOf(high, low);
+
+		long stamp = lock.writeLock();
+		try {
+			int target = victim(slot, high, low);
+			keys[target] = high;
+			entries[target] = entry;
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Drops the cached check of a client, e.g. after it was created or removed.
+	 *
+	 * @param clientId the client ID
+	 */
+	public void invalidate(String clientId) {
+		if (!isObjectId(clientId)) {
+			return;
+		}
+		long high = keyHigh(clientId);
+		long low = keyLow(clientId);
+		int slot = slotOf(high, low);
+
+		long stamp = lock.writeLock();
+		try {
+			clear(slot, high, low);
+			clear(slot ^ 1, high, low);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * Drops every cached check.
+	 */
+	public void invalidateAll() {
+		long stamp = lock.writeLock();
+		try {
+			Arrays.fill(keys, 0);
+			Arrays.fill(entries, 0);
+		} finally {
+			lock.unlockWrite(stamp);
+		}
+	}
+
+	/**
+	 * @return the number of entries the cache can hold
+	 */
+	public int capacity() {
+		return keys.length;
+	}
+
+	private long find(int slot, long high, long low) {
+		if (matches(slot, high, low)) {
+			return entries[slot];
+		}
+		if (matches(slot ^ 1, high, low)) {
+			return entries[slot ^ 1];
+		}
+		return 0;
+	}
+
+	private void clear(int slot, long high, long low) {
+		if (matches(slot, high, low)) {
+			keys[slot] = 0;
+			entries[slot] = 0;
+		}
+	}
+
+	private int victim(int slot, long high, long low) {
+		int sibling = slot ^ 1;
+		if (matches(slot, high, low) || entries[slot] == 0) {
+			return slot;
+		}
+		if (matches(sibling, high, low) || entries[sibling] == 0) {
+			return sibling;
+		}
+		return expiresAt(entries[slot]) <= expiresAt(entries[sibling]) ? slot : sibling;
+	}
+
+	private boolean matches(int slot, long high, long low) {
+		long entry = entries[slot];
+		return entry != 0 && keys[slot] == high && (entry & 0xFFFFFFFF00000000L) == low;
+	}
+
+	private int slotOf(long high, long low) {
+		long hash = (high ^ low) * 0x9E3779B97F4A7C15L;
+		return (int) (hash ^ (hash >>> 32)) & mask;
+	}
+
+	private long expiresAt(long entry) {
+		return (entry & 0xFFFFFFFFL) >>> 1;
+	}
+
+	private long nowSeconds() {
+		return TimeUnit.NANOSECONDS.toSeconds(nanoTicker.getAsLong() - originNanos) + 1;
+	}
+
+	/**
+	 * First 8 of the 12 ObjectId bytes.
+	 */
+	private static long keyHigh(String clientId) {
+		return Long.parseUnsignedLong(clientId, 0, 16, 16);
+	}
+
+	/**
+	 * Last 4 ObjectId bytes, in the upper half of the entry slot.
+	 */
+	private static long keyLow(String clientId) {
+		return Long.parseUnsignedLong(clientId, 16, OBJECT_ID_LENGTH, 16) << 32;
+	}
+
+	private static boolean isObjectId(String clientId) {
+		if (clientId == null || clientId.length() != OBJECT_ID_LENGTH) {
+			return false;
+		}
+		for (int i = 0; i < OBJECT_ID_LENGTH; i++) {
+			if (Character.digit(clientId.charAt(i), 16) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
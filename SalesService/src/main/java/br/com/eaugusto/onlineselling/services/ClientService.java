@@ -3,6 +3,7 @@ package br.com.eaugusto.onlineselling.services;
 import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -11,12 +12,15 @@ import org.springframework.stereotype.Service;
 /**
  * Service responsible for client-related operations, such as checking if a
  * client is registered. Uses RestUtils to perform HTTP requests to the external
- * client service.
+ * client service. Results are kept in a {@link ClientRegistrationCache}, so
+ * repeat customers do not cost a network round trip. Calls to the client
+ * service go through the {@link DependencyGuard}.
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
 @Service
+@Profile("!reactive")
 public class ClientService {
 
 	@Value("${application.clientService.searchClientEndpoint}")
@@ -24,16 +28,34 @@ public class ClientService {
 
 	private RestUtils restUtils;
 
-	public ClientService(RestUtils restUtils) {
+	private ClientRegistrationCache registrationCache;
+
+	private DependencyGuard dependencyGuard;
+
+	public ClientService(RestUtils restUtils, ClientRegistrationCache registrationCache,
+			DependencyGuard dependencyGuard) {
 		this.restUtils = restUtils;
+		this.registrationCache = registrationCache;
+		this.dependencyGuard = dependencyGuard;
 	}
 
 	public Boolean isClientRegistered(String clientId) {
+		Boolean cached = registrationCache.get(clientId);
+		if (cached != null) {
+			return cached;
+		}
+		Boolean registered = fetchIsClientRegistered(clientId);
+		registrationCache.put(clientId, Boolean.TRUE.equals(registered));
+		return registered;
+	}
+
+	private Boolean fetchIsClientRegistered(String clientId) {
 		RestRequest restRequest = new RestRequest(HttpMethod.GET, null);
 		restRequest.setContentType(MediaType.APPLICATION_JSON);
 		restRequest.setAcceptable(Collections.singletonList(MediaType.APPLICATION_JSON));
 		String urlComParam = searchClientEndpointUrl.replace("{id}", clientId);
-		ResponseEntity<Boolean> response = restUtils.execute(urlComParam, restRequest, Boolean.class);
+		ResponseEntity<Boolean> response = dependencyGuard.call(DependencyGuard.CLIENT_SERVICE,
+				() -> restUtils.execute(urlComParam, restRequest, Boolean.class));
 		return response.getBody();
 	}
 }
@@ -0,0 +1,67 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import br.com.eaugusto.onlineselling.exception.DependencyUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Runs calls to other services behind a circuit breaker and a semaphore
+ * bulkhead per dependency.
+ * <p>
+ * The bulkhead caps how many request threads may wait on one dependency at a
+ * time, so a slow dependency cannot hold every servlet thread and requests
+ * that do not need it keep being served. The circuit breaker stops sending
+ * calls for a while once too many of them fail or are slow. Both are configured
+ * per dependency under {@code resilience4j.circuitbreaker.instances.<name>} and
+ * {@code resilience4j.bulkhead.instances.<name>}. A refused call is thrown as a
+ * {@link DependencyUnavailableException}; calls that are let through fail as
+ * they did before.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+public class DependencyGuard {
+
+	public static final String PRODUCT_SERVICE = "productService";
+	public static final String CLIENT_SERVICE = "clientService";
+
+	private final CircuitBreakerRegistry circuitBreakers;
+	private final BulkheadRegistry bulkheads;
+
+	public DependencyGuard(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads) {
+		this.circuitBreakers = circuitBreakers;
+		this.bulkheads = bulkheads;
+	}
+
+	/**
+	 * Calls a dependency if its circuit breaker and bulkhead allow it.
+	 *
+	 * @param <T>        the result type
+	 * @param dependency the dependency name
+	 * @param call       the remote call
+	 * @return the result of the call
+	 * @throws DependencyUnavailableException if the call was refused
+	 */
+	public <T> T call(String dependency, Supplier<T> call) {
+		CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(dependency);
+		Bulkhead bulkhead = bulkheads.bulkhead(dependency);
+		try {
+			return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+		} catch (CallNotPermittedException ex) {
+			throw new DependencyUnavailableException(
+					"The " + dependency + " circuit breaker is open, calls are refused for now");
+		} catch (BulkheadFullException ex) {
+			throw new DependencyUnavailableException("Too many calls are already waiting on " + dependency);
+		}
+	}
+}
@@ -1,21 +1,41 @@
 package br.com.eaugusto.onlineselling.services;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import br.com.eaugusto.onlineselling.domain.Product;
 
 /**
- * Feign client interface for communicating with the product service. Provides a
- * method to retrieve a Product by its code.
+ * Feign client interface for communicating with the product service. Provides
+ * methods to retrieve a Product by its code, or many Products with one call.
+ * <p>
+ * The Feign proxy is registered as {@code remoteProductService} and is not the
+ * primary bean: callers get {@link CachedProductService}, which delegates to it.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
-@FeignClient(name = "product", url = "${application.productService.url}")
+@FeignClient(name = "product", url = "${application.productService.url}", primary = false,
+		qualifiers = "remoteProductService")
 public interface IProductService {
 
 	@GetMapping(value = "/product/code/{code}", produces = "application/json", headers = "application/json")
 	Product findProductByCode(@RequestParam("code") String productCode);
+
+	/**
+	 * Retrieves many products with a single request. Unknown codes are left out
+	 * of the result.
+	 *
+	 * @param productCodes the product codes
+	 * @return the products found
+	 */
+	@PostMapping(value = "/product/codes", consumes = "application/json", produces = "application/json")
+	List<Product> findProductsByCodes(@RequestBody Collection<String> productCodes);
 }
@@ -0,0 +1,50 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.io.IOException;
+import java.net.URI;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+/**
+ * Feign {@link Client} reporting every call to {@link OutboundCallMetrics}
+ * before handing the response to the decoder.
+ * <p>
+ * The call is timed until the response status arrives, and the response body
+ * is counted while the decoder reads it.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class MeteredFeignClient implements Client {
+
+	private final Client delegate;
+	private final OutboundCallMetrics metrics;
+
+	public MeteredFeignClient(Client delegate, OutboundCallMetrics metrics) {
+		this.delegate = delegate;
+		this.metrics = metrics;
+	}
+
+	@Override
+	public Response execute(Request request, Request.Options options) throws IOException {
+		byte[] body = request.body();
+		OutboundCallMetrics.Call call = metrics.start(URI.create(request.url()), request.httpMethod().name(),
+				body != null ? body.length : 0);
+		Response response;
+		try {
+			response = delegate.execute(request, options);
+		} catch (IOException | RuntimeException ex) {
+			call.failed(ex);
+			throw ex;
+		}
+		call.completed(response.status());
+		if (response.body() == null) {
+			return response;
+		}
+		return response.toBuilder().body(call.countResponse(response.body().asInputStream()), response.body().length())
+				.build();
+	}
+}
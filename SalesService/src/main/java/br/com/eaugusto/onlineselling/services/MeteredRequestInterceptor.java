@@ -0,0 +1,93 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * {@code RestTemplate} interceptor reporting every call to
+ * {@link OutboundCallMetrics}.
+ * <p>
+ * The call is timed until the response status arrives, and the response body
+ * is counted while the message converters read it.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class MeteredRequestInterceptor implements ClientHttpRequestInterceptor {
+
+	private final OutboundCallMetrics metrics;
+
+	public MeteredRequestInterceptor(OutboundCallMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		OutboundCallMetrics.Call call = metrics.start(request.getURI(), request.getMethod().name(), body.length);
+		ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		} catch (IOException | RuntimeException ex) {
+			call.failed(ex);
+			throw ex;
+		}
+		call.completed(response.getStatusCode().value());
+		return new CountedResponse(response, call);
+	}
+
+	private static final class CountedResponse implements ClientHttpResponse {
+
+		private final ClientHttpResponse response;
+		private final OutboundCallMetrics.Call call;
+		private InputStream body;
+
+		private CountedResponse(ClientHttpResponse response, OutboundCallMetrics.Call call) {
+			this.response = response;
+			this.call = call;
+		}
+
+		@Override
+		public HttpStatusCode getStatusCode() throws IOException {
+			return response.getStatusCode();
+		}
+
+		@Override
+		public String getStatusText() throws IOException {
+			return response.getStatusText();
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return response.getHeaders();
+		}
+
+		@Override
+		public InputStream getBody() throws IOException {
+			if (body == null) {
+				body = call.countResponse(response.getBody());
+			}
+			return body;
+		}
+
+		@Override
+		public void close() {
+			if (body != null) {
+				try {
+					body.close();
+				} catch (IOException ex) {
+					// the response is closed below either way
+				}
+			}
+			response.close();
+		}
+	}
+}
@@ -0,0 +1,198 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Meters for the calls this service makes to other services.
+ * <p>
+ * Both outbound paths report here: the {@code RestTemplate} behind
+ * {@link RestUtils} through {@link MeteredRequestInterceptor} and the Feign
+ * clients through {@link MeteredFeignClient}. Calls are tagged with their
+ * target, the {@code host:port} of the URL, so the cost of each downstream
+ * service can be told apart without tagging every path.
+ * </p>
+ *
+ * <p>
+ * Publishes:
+ * </p>
+ * <ul>
+ * <li>{@code outbound.requests}, a timer from sending the request to receiving
+ * the response status, tagged with target, method, status and outcome, with a
+ * percentile histogram and the 50th, 95th and 99th percentiles;</li>
+ * <li>{@code outbound.errors}, counting calls answered with 4xx or 5xx or that
+ * failed without a response, tagged with target, method, status and
+ * exception;</li>
+ * <li>{@code outbound.in.flight}, a gauge of calls waiting for a response per
+ * target;</li>
+ * <li>{@code outbound.request.size} and {@code outbound.response.size},
+ * distributions of body sizes in bytes per target. The response body is
+ * counted as it is read and recorded when it is closed.</li>
+ * </ul>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+public class OutboundCallMetrics {
+
+	public static final String REQUESTS = "outbound.requests";
+	public static final String ERRORS = "outbound.errors";
+	public static final String IN_FLIGHT = "outbound.in.flight";
+	public static final String REQUEST_SIZE = "outbound.request.size";
+	public static final String RESPONSE_SIZE = "outbound.response.size";
+
+	private static final String NO_RESPONSE = "IO_ERROR";
+	private static final String NO_EXCEPTION = "none";
+
+	private final MeterRegistry meterRegistry;
+	private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+	public OutboundCallMetrics(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Starts metering a call that is about to be sent.
+	 *
+	 * @param uri          the request URL
+	 * @param method       the HTTP method
+	 * @param requestBytes the size of the request body
+	 * @return the call, to be completed or failed once it returns
+	 */
+	public Call start(URI uri, String method, long requestBytes) {
+		String target = uri.getPort() == -1 ? String.valueOf(uri.getHost()) : uri.getHost() + ":" + uri.getPort();
+		AtomicInteger calls = inFlight.computeIfAbsent(target, key -> meterRegistry.gauge(IN_FLIGHT,
+				Tags.of("target", key), new AtomicInteger()));
+		calls.incrementAndGet();
+		size(REQUEST_SIZE, target).record(requestBytes);
+		return new Call(target, method, calls, System.nanoTime());
+	}
+
+	private DistributionSummary size(String name, String target) {
+		return DistributionSummary.builder(name).baseUnit("bytes").tag("target", target)
+				.publishPercentileHistogram().register(meterRegistry);
+	}
+
+	/**
+	 * One outbound call in progress. Exactly one of {@link #completed(int)} and
+	 * {@link #failed(Throwable)} is expected per call.
+	 */
+	public final class Call {
+
+		private final String target;
+		private final String method;
+		private final AtomicInteger calls;
+		private final long startNanos;
+
+		private Call(String target, String method, AtomicInteger calls, long startNanos) {
+			this.target = target;
+			this.method = method;
+			this.calls = calls;
+			this.startNanos = startNanos;
+		}
+
+		/**
+		 * Records a call that received a response.
+		 *
+		 * @param status the response status code
+		 */
+		public void completed(int status) {
+			stop(String.valueOf(status), Outcome.forStatus(status), NO_EXCEPTION);
+		}
+
+		/**
+		 * Records a call that failed before a response was received.
+		 *
+		 * @param ex the failure
+		 */
+		public void failed(Throwable ex) {
+			stop(NO_RESPONSE, Outcome.UNKNOWN, ex.getClass().getSimpleName());
+		}
+
+		/**
+		 * Wraps a response body so that its size is recorded when it is closed.
+		 *
+		 * @param body the response body
+		 * @return the counting body
+		 */
+		public InputStream countResponse(InputStream body) {
+			return new CountingInputStream(body, size(RESPONSE_SIZE, target));
+		}
+
+		private void stop(String status, Outcome outcome, String exception) {
+			long elapsed = System.nanoTime() - startNanos;
+			calls.decrementAndGet();
+			Timer.builder(REQUESTS).description("Outbound HTTP calls")
+					.tags("target", target, "method", method, "status", status, "outcome", outcome.name())
+					.publishPercentileHistogram().publishPercentiles(0.5, 0.95, 0.99).register(meterRegistry)
+					.record(elapsed, TimeUnit.NANOSECONDS);
+			if (outcome == Outcome.CLIENT_ERROR || outcome == Outcome.SERVER_ERROR || outcome == Outcome.UNKNOWN) {
+				Counter.builder(ERRORS).description("Outbound HTTP calls that failed or returned an error status")
+						.tags("target", target, "method", method, "status", status, "exception", exception)
+						.register(meterRegistry).increment();
+			}
+		}
+	}
+
+	private static final class CountingInputStream extends FilterInputStream {
+
+		private final DistributionSummary sizes;
+		private long count;
+		private boolean recorded;
+
+		private CountingInputStream(InputStream in, DistributionSummary sizes) {
+			super(in);
+			this.sizes = sizes;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+			if (read != -1) {
+				count++;
+			}
+			return read;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) {
+				count += read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (!recorded) {
+				recorded = true;
+				sizes.record(count);
+			}
+			super.close();
+		}
+	}
+}
@@ -0,0 +1,183 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Captures the payloads of selected outbound calls made through
+ * {@link RestUtils}.
+ * <p>
+ * Disabled by default, in which case a call costs a single field check.
+ * Enabled with {@code application.payloadCapture.enabled}, a call is captured
+ * when it fails, when it took at least {@code slowerThan}, or when it is one
+ * of every {@code sampleEvery} calls. Only captured calls are serialized:
+ * headers, request body and response body are written as JSON, cut at
+ * {@code maxPayloadChars} characters each, and logged at INFO. The
+ * {@code Authorization} header is masked.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+public class PayloadCapture {
+
+	private static final Logger logger = LoggerFactory.getLogger(PayloadCapture.class);
+
+	private static final String TRUNCATED = "...(truncated)";
+
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final long sampleEvery;
+	private final long slowerThanNanos;
+	private final int maxPayloadChars;
+	private final AtomicLong calls = new AtomicLong();
+
+	public PayloadCapture(ObjectMapper objectMapper,
+			@Value("${application.payloadCapture.enabled:false}") boolean enabled,
+			@Value("${application.payloadCapture.sampleEvery:0}") long sampleEvery,
+			@Value("${application.payloadCapture.slowerThan:0ms}") Duration slowerThan,
+			@Value("${application.payloadCapture.maxPayloadChars:4096}") int maxPayloadChars) {
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.sampleEvery = sampleEvery;
+		this.slowerThanNanos = slowerThan.toNanos();
+		this.maxPayloadChars = Math.max(0, maxPayloadChars);
+	}
+
+	/**
+	 * Captures a finished call if it was selected.
+	 *
+	 * @param method       the HTTP method
+	 * @param url          the request URL
+	 * @param request      the request entity
+	 * @param response     the response, or {@code null} if the call failed
+	 * @param failure      the failure, or {@code null} if the call succeeded
+	 * @param elapsedNanos the duration of the call
+	 * @return the logged capture, or {@code null} if the call was not captured
+	 */
+	public String capture(HttpMethod method, String url, HttpEntity<?> request, ResponseEntity<?> response,
+			Exception failure, long elapsedNanos) {
+		if (!enabled) {
+			return null;
+		}
+		String reason = reason(failure, elapsedNanos);
+		if (reason == null) {
+			return null;
+		}
+		String responseBody;
+		if (response != null) {
+			responseBody = json(response.getBody());
+		} else if (failure instanceof RestClientResponseException responseException) {
+			responseBody = truncate(responseException.getResponseBodyAsString());
+		} else {
+			responseBody = null;
+		}
+		String captured = String.format(
+				"%s CALL WITH %s ON URL: %s IN %d ms - HEADERS: %s, BODY: %s, RESPONSE STATUS: %s, RESPONSE BODY: %s",
+				reason, method, url, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), json(masked(request.getHeaders())),
+				json(request.getBody()), status(response, failure), responseBody);
+		logger.info(captured);
+		return captured;
+	}
+
+	private String reason(Exception failure, long elapsedNanos) {
+		boolean sampled = sampleEvery > 0 && calls.incrementAndGet() % sampleEvery == 0;
+		if (failure != null) {
+			return "FAILED";
+		} else if (slowerThanNanos > 0 && elapsedNanos >= slowerThanNanos) {
+			return "SLOW";
+		} else if (sampled) {
+			return "SAMPLED";
+		}
+		return null;
+	}
+
+	private Object status(ResponseEntity<?> response, Exception failure) {
+		if (response != null) {
+			return response.getStatusCode().value();
+		} else if (failure instanceof RestClientResponseException responseException) {
+			return responseException.getStatusCode().value();
+		}
+		return failure.getClass().getSimpleName();
+	}
+
+	private HttpHeaders masked(HttpHeaders headers) {
+		HttpHeaders masked = new HttpHeaders();
+		headers.forEach((name, values) -> masked.put(name,
+				HttpHeaders.AUTHORIZATION.equalsIgnoreCase(name) ? List.of("***") : values));
+		return masked;
+	}
+
+	private String json(Object value) {
+		if (value == null) {
+			return null;
+		}
+		CappedWriter writer = new CappedWriter(maxPayloadChars);
+		try {
+			objectMapper.writeValue(writer, value);
+		} catch (IOException e) {
+			if (!writer.full) {
+				logger.error("ERROR CONVERTING OBJECT TO JSON");
+				return null;
+			}
+		}
+		return writer.full ? writer.text + TRUNCATED : writer.text.toString();
+	}
+
+	private String truncate(String text) {
+		return text.length() > maxPayloadChars ? text.substring(0, maxPayloadChars) + TRUNCATED : text;
+	}
+
+	/**
+	 * Keeps the first characters written to it and stops the serialization once
+	 * the cap is reached, so a large payload is not serialized in full.
+	 */
+	private static final class CappedWriter extends Writer {
+
+		private final StringBuilder text = new StringBuilder();
+		private final int cap;
+		private boolean full;
+
+		private CappedWriter(int cap) {
+			this.cap = cap;
+		}
+
+		@Override
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			int room = cap - text.length();
+			if (len > room) {
+				text.append(cbuf, off, room);
+				full = true;
+				throw new IOException("Payload capture limit of " + cap + " characters reached");
+			}
+			text.append(cbuf, off, len);
+		}
+
+		@Override
+		public void flush() {
+			// nothing is buffered
+		}
+
+		@Override
+		public void close() {
+			// nothing to release
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package br.com.eaugusto.onlineselling.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link ClientService}, used by the
+ * {@code reactive} profile. Asks the client service with {@link WebClient} and
+ * shares the {@link ClientRegistrationCache} of the blocking service.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Profile("reactive")
+public class ReactiveClientService {
+
+	private final WebClient webClient;
+
+	private final String searchClientEndpointUrl;
+
+	private final ClientRegistrationCache registrationCache;
+
+	public ReactiveClientService(WebClient.Builder webClientBuilder,
+			@Value("${application.clientService.searchClientEndpoint}") String searchClientEndpointUrl,
+			ClientRegistrationCache registrationCache) {
+		this.webClient = webClientBuilder.build();
+		this.searchClientEndpointUrl = searchClientEndpointUrl;
+		this.registrationCache = registrationCache;
+	}
+
+	/**
+	 * Checks whether a client is registered.
+	 *
+	 * @param clientId the client ID
+	 * @return whether the client is registered
+	 */
+	public Mono<Boolean> isClientRegistered(String clientId) {
+		return Mono.defer(() -> {
+			Boolean cached = registrationCache.get(clientId);
+			if (cached != null) {
+				return Mono.just(cached);
+			}
+			return webClient.get().uri(searchClientEndpointUrl, clientId).accept(MediaType.APPLICATION_JSON)
+					.retrieve().bodyToMono(Boolean.class).defaultIfEmpty(Boolean.FALSE)
+					.doOnNext(registered -> registrationCache.put(clientId, registered));
+		});
+	}
+}
@@ -0,0 +1,127 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link CachedProductService}, used by the
+ * {@code reactive} profile.
+ * <p>
+ * Calls the product service with {@link WebClient} and keeps the snapshots in
+ * an asynchronous Caffeine cache with the same {@code application.productCache}
+ * settings: unknown codes are cached as empty for a shorter time, stale entries
+ * are reloaded in the background and batch lookups only request the codes that
+ * are not cached yet. Concurrent lookups of the same code share one request.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Profile("reactive")
+public class ReactiveProductService {
+
+	private static final ParameterizedTypeReference<List<Product>> PRODUCT_LIST = new ParameterizedTypeReference<>() {
+	};
+
+	private final WebClient webClient;
+	private final AsyncLoadingCache<String, Optional<Product>> products;
+
+	public ReactiveProductService(WebClient.Builder webClientBuilder,
+			@Value("${application.productService.url}") String productServiceUrl,
+			@Value("${application.productCache.maximumSize:10000}") long maximumSize,
+			@Value("${application.productCache.expireAfterWrite:10m}") Duration expireAfterWrite,
+			@Value("${application.productCache.refreshAfterWrite:1m}") Duration refreshAfterWrite,
+			@Value("${application.productCache.negativeExpireAfterWrite:30s}") Duration negativeExpireAfterWrite,
+			MeterRegistry meterRegistry) {
+		this.webClient = webClientBuilder.baseUrl(productServiceUrl).build();
+		this.products = Caffeine.newBuilder().maximumSize(maximumSize)
+				.expireAfter(new CachedProductService.SnapshotExpiry(expireAfterWrite, negativeExpireAfterWrite))
+				.refreshAfterWrite(refreshAfterWrite).recordStats().buildAsync(new SnapshotLoader());
+		CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+	}
+
+	/**
+	 * Returns the cached snapshot of a product, loading it on a miss.
+	 *
+	 * @param productCode the product code
+	 * @return the product, or empty if the product service does not know the
+	 *         code
+	 */
+	public Mono<Product> findProductByCode(String productCode) {
+		return Mono.fromFuture(() -> products.get(productCode), true).flatMap(Mono::justOrEmpty);
+	}
+
+	/**
+	 * Returns the cached snapshots of many products. Codes missing from the cache
+	 * are loaded together with a single batch request.
+	 *
+	 * @param productCodes the product codes
+	 * @return the products found, in the order of the requested codes
+	 */
+	public Mono<List<Product>> findProductsByCodes(Collection<String> productCodes) {
+		return Mono.fromFuture(() -> products.getAll(productCodes), true)
+				.map(found -> found.values().stream().flatMap(Optional::stream).toList());
+	}
+
+	/**
+	 * Drops the cached snapshot of a product.
+	 *
+	 * @param productCode the product code
+	 */
+	public void invalidate(String productCode) {
+		products.synchronous().invalidate(productCode);
+	}
+
+	/**
+	 * Loads single codes with the single lookup and several codes with the batch
+	 * endpoint, caching every requested code that was not found as empty.
+	 */
+	private class SnapshotLoader implements AsyncCacheLoader<String, Optional<Product>> {
+
+		@Override
+		public CompletableFuture<Optional<Product>> asyncLoad(String productCode, Executor executor) {
+			return webClient.get().uri("/product/code/{code}", productCode).accept(MediaType.APPLICATION_JSON)
+					.retrieve().bodyToMono(Product.class).map(Optional::of)
+					.onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.just(Optional.empty()))
+					.defaultIfEmpty(Optional.empty()).toFuture();
+		}
+
+		@Override
+		public CompletableFuture<Map<String, Optional<Product>>> asyncLoadAll(Set<? extends String> productCodes,
+				Executor executor) {
+			return webClient.post().uri("/product/codes").contentType(MediaType.APPLICATION_JSON)
+					.accept(MediaType.APPLICATION_JSON).bodyValue(List.copyOf(productCodes)).retrieve()
+					.bodyToMono(PRODUCT_LIST).defaultIfEmpty(List.of()).map(found -> {
+						Map<String, Optional<Product>> snapshots = new HashMap<>();
+						productCodes.forEach(code -> snapshots.put(code, Optional.empty()));
+						found.forEach(product -> snapshots.put(product.getCode(), Optional.of(product)));
+						return snapshots;
+					}).toFuture();
+		}
+	}
+}
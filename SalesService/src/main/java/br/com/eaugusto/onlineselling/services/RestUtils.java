@@ -1,5 +1,7 @@
 package br.com.eaugusto.onlineselling.services;
 
+import java.util.concurrent.TimeUnit;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpEntity;
@@ -17,6 +19,11 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  * responses, and errors. Handles conversion of objects to JSON for logging and
  * supports variable URI parameters. Provides centralized error handling and
  * logging for all REST calls.
+ * <p>
+ * Requests and durations are only converted for the log when DEBUG is enabled,
+ * and payloads of selected calls are handed to {@link PayloadCapture}, so a
+ * call with DEBUG and capture off does no serialization.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
@@ -28,25 +35,38 @@ public class RestUtils {
 
 	private final RestTemplate restTemplate;
 	private final ObjectMapper objectMapper;
+	private final PayloadCapture payloadCapture;
 
-	public RestUtils(RestTemplate restTemplate, ObjectMapper objectMapper) {
+	public RestUtils(RestTemplate restTemplate, ObjectMapper objectMapper, PayloadCapture payloadCapture) {
 		this.restTemplate = restTemplate;
 		this.objectMapper = objectMapper;
+		this.payloadCapture = payloadCapture;
 	}
 
 	public <T> ResponseEntity<T> execute(String url, RestRequest request, Class<T> responseType,
 			Object... uriVariables) {
+		HttpMethod method = request.getMethod();
+		HttpEntity<Object> httpEntity = request.getHttpEntity();
+		if (logger.isDebugEnabled()) {
+			logCall(method, url, httpEntity, uriVariables);
+		}
 
-		logCall(request.getMethod(), url, request.getHttpEntity(), uriVariables);
-
-		long start = System.currentTimeMillis();
+		long start = System.nanoTime();
+		ResponseEntity<T> response = null;
+		Exception failure = null;
 		try {
-			return restTemplate.exchange(url, request.getMethod(), request.getHttpEntity(), responseType, uriVariables);
+			response = restTemplate.exchange(url, method, httpEntity, responseType, uriVariables);
+			return response;
 		} catch (Exception e) {
-			logError(request.getMethod(), url, e);
+			failure = e;
+			logError(method, url, e);
 			throw e;
 		} finally {
-			logElapsed(request.getMethod(), url, start);
+			long elapsedNanos = System.nanoTime() - start;
+			if (logger.isDebugEnabled()) {
+				logElapsed(method, url, elapsedNanos);
+			}
+			payloadCapture.capture(method, url, httpEntity, response, failure, elapsedNanos);
 		}
 	}
 
@@ -66,9 +86,9 @@ public class RestUtils {
 		logger.error("ERROR ON ENDPOINT WITH {} ON URL: {} - {}", method, url, e.getMessage());
 	}
 
-	private void logElapsed(HttpMethod method, String url, long start) {
+	private void logElapsed(HttpMethod method, String url, long elapsedNanos) {
 		logger.debug("ELAPSED TIME ON ENDPOINT WITH {} ON URL: {} - {} ms", method, url,
-				System.currentTimeMillis() - start);
+				TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
 	}
 
 	protected String asJSON(Object dto) {
@@ -0,0 +1,94 @@
+package br.com.eaugusto.onlineselling.services;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Lets concurrent calls for the same key share one execution.
+ * <p>
+ * The first caller for a key runs the call. Callers that arrive while it is
+ * still running wait for it and get its result, or the exception it threw,
+ * instead of making the same call again. Once the call returns, the next
+ * caller for that key runs it again. Results are not kept: caching is left to
+ * the caller.
+ * </p>
+ *
+ * <p>
+ * Publishes {@code singleflight.calls}, tagged with the flight name and with
+ * {@code result} set to {@code executed} or {@code coalesced}, and
+ * {@code singleflight.in.flight}, a gauge of the keys being executed. The
+ * coalescing ratio is the {@code coalesced} count over the count of both
+ * results.
+ * </p>
+ *
+ * @param <K> the key type
+ * @param <V> the result type
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public class SingleFlight<K, V> {
+
+	public static final String CALLS = "singleflight.calls";
+	public static final String IN_FLIGHT = "singleflight.in.flight";
+
+	private final Map<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+	private final Counter executed;
+	private final Counter coalesced;
+
+	public SingleFlight(String name, MeterRegistry meterRegistry) {
+		this.executed = Counter.builder(CALLS).description("Calls executed or coalesced into a running call")
+				.tags("name", name, "result", "executed").register(meterRegistry);
+		this.coalesced = Counter.builder(CALLS).description("Calls executed or coalesced into a running call")
+				.tags("name", name, "result", "coalesced").register(meterRegistry);
+		Gauge.builder(IN_FLIGHT, flights, Map::size).description("Keys with a call running").tag("name", name)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Runs the call for a key, or waits for the one already running for it.
+	 *
+	 * @param key  the key
+	 * @param call the call, run only if none is running for the key
+	 * @return the result of the call
+	 */
+	public V execute(K key, Supplier<V> call) {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> running = flights.putIfAbsent(key, flight);
+		if (running != null) {
+			coalesced.increment();
+			return await(running);
+		}
+		executed.increment();
+		try {
+			V result = call.get();
+			flight.complete(result);
+			return result;
+		} catch (RuntimeException | Error ex) {
+			flight.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			flights.remove(key, flight);
+		}
+	}
+
+	private V await(CompletableFuture<V> running) {
+		try {
+			return running.join();
+		} catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			} else if (ex.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw ex;
+		}
+	}
+}
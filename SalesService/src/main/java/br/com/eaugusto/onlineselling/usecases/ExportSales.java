@@ -0,0 +1,132 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service responsible for exporting sales as newline-delimited JSON.
+ * <p>
+ * Sales are read from a single server-side MongoDB cursor, in sale date and id
+ * order through the {@code saleDate_id} index, and each one is written to the
+ * response as soon as it is mapped. Only one cursor batch is held in memory at
+ * a time, whatever the number of exported sales, and the response is flushed
+ * after every batch.
+ * </p>
+ *
+ * <p>
+ * When the client disconnects, the next write fails and the cursor is closed,
+ * so the server stops reading.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Profile("!reactive")
+@Slf4j
+public class ExportSales {
+
+	private static final Sort EXPORT_SORT = Sort.by("saleDate", "id");
+
+	private final MongoTemplate mongoTemplate;
+	private final ObjectWriter salesWriter;
+	private final int defaultBatchSize;
+	private final int maxBatchSize;
+
+	public ExportSales(MongoTemplate mongoTemplate, ObjectMapper objectMapper,
+			@Value("${application.sales.export.batchSize:500}") int defaultBatchSize,
+			@Value("${application.sales.export.maxBatchSize:10000}") int maxBatchSize) {
+		this.mongoTemplate = mongoTemplate;
+		this.salesWriter = objectMapper.writerFor(Sales.class).withRootValueSeparator("")
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+		this.defaultBatchSize = defaultBatchSize;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Validates the filters and prepares the export. Nothing is read until the
+	 * returned body is written.
+	 *
+	 * @param status    only sales with this status, or {@code null} for all
+	 * @param from      only sales on or after this instant, or {@code null}
+	 * @param to        only sales before this instant, or {@code null}
+	 * @param batchSize the number of sales fetched per cursor batch, or
+	 *                  {@code null} for the configured default
+	 * @return the body writing one sale per line
+	 * @throws BadRequestException if the range is empty or the batch size is out
+	 *                             of range
+	 */
+	public StreamingResponseBody exportSales(Status status, Instant from, Instant to, Integer batchSize) {
+		int cursorBatchSize = batchSize == null ? defaultBatchSize : batchSize;
+		Query query = exportQuery(status, from, to, cursorBatchSize, maxBatchSize);
+		return out -> write(query, cursorBatchSize, out);
+	}
+
+	/**
+	 * Builds the query shared by the blocking and reactive exports.
+	 *
+	 * @throws BadRequestException if the range is empty or the batch size is out
+	 *                             of range
+	 */
+	static Query exportQuery(Status status, Instant from, Instant to, int batchSize, int maxBatchSize) {
+		if (batchSize < 1 || batchSize > maxBatchSize) {
+			throw new BadRequestException("Batch size must be between 1 and " + maxBatchSize);
+		}
+		if (from != null && to != null && !from.isBefore(to)) {
+			throw new BadRequestException("from must be before to");
+		}
+		Query query = new Query().with(EXPORT_SORT).cursorBatchSize(batchSize);
+		if (status != null) {
+			query.addCriteria(Criteria.where("status").is(status));
+		}
+		if (from != null || to != null) {
+			Criteria saleDate = Criteria.where("saleDate");
+			if (from != null) {
+				saleDate.gte(from);
+			}
+			if (to != null) {
+				saleDate.lt(to);
+			}
+			query.addCriteria(saleDate);
+		}
+		return query;
+	}
+
+	private void write(Query query, int batchSize, OutputStream out) throws IOException {
+		long exported = 0;
+		try (Stream<Sales> sales = mongoTemplate.stream(query, Sales.class);
+				JsonGenerator generator = salesWriter.createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			for (Sales sale : (Iterable<Sales>) sales::iterator) {
+				salesWriter.writeValue(generator, sale);
+				generator.writeRaw('\n');
+				if (++exported % batchSize == 0) {
+					generator.flush();
+				}
+			}
+		} finally {
+			log.debug("Exported {} sales", exported);
+		}
+	}
+}
@@ -0,0 +1,118 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import br.com.eaugusto.onlineselling.exception.DependencyTimeoutException;
+
+/**
+ * Runs independent lookups of a request concurrently.
+ * <p>
+ * Both lookups are started on virtual threads of their own, so the caller waits
+ * for the slower of the two instead of their sum. The application task
+ * executor is not used: with {@code spring.threads.virtual.enabled} off it is a
+ * small pool with an unbounded queue, where lookups would wait behind other
+ * tasks until the deadline instead of running.
+ * </p>
+ *
+ * <p>
+ * The pair is treated as one unit: if either lookup fails the other one is
+ * cancelled and the failure is rethrown unchanged, so exceptions such as
+ * {@code EntityNotFoundException} reach the caller exactly as if the lookups
+ * had run in sequence. If the pair does not finish within
+ * {@code application.sales.lookupTimeout}, both are cancelled and a
+ * {@link DependencyTimeoutException} is thrown. Cancelling does not interrupt a
+ * lookup that is already running, since an interrupt closes the pooled Mongo
+ * or HTTP connection it is using: the lookup finishes within its own client
+ * timeouts and its result is discarded.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+public class LookupFanOut implements AutoCloseable {
+
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Duration timeout;
+
+	public LookupFanOut(@Value("${application.sales.lookupTimeout:2s}") Duration timeout) {
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Runs two lookups concurrently and combines their results.
+	 *
+	 * @param first    the first lookup
+	 * @param second   the second lookup
+	 * @param combiner called on the caller thread with both results
+	 * @return the combined result
+	 * @throws DependencyTimeoutException if the lookups do not finish in time
+	 */
+	public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combiner) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		BlockingQueue<Future<?>> completed = new LinkedBlockingQueue<>();
+		FutureTask<A> firstTask = start(first, completed);
+		FutureTask<B> secondTask = start(second, completed);
+		try {
+			for (int pending = 2; pending > 0; pending--) {
+				Future<?> done = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+				if (done == null) {
+					throw new DependencyTimeoutException("Lookups did not finish within " + timeout);
+				}
+				done.get();
+			}
+			return combiner.apply(firstTask.get(), secondTask.get());
+		} catch (ExecutionException ex) {
+			throw unwrap(ex);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for lookups", ex);
+		} finally {
+			firstTask.cancel(false);
+			secondTask.cancel(false);
+		}
+	}
+
+	private <T> FutureTask<T> start(Supplier<T> lookup, BlockingQueue<Future<?>> completed) {
+		FutureTask<T> task = new FutureTask<>(lookup::get) {
+			@Override
+			protected void done() {
+				completed.add(this);
+			}
+		};
+		executor.execute(task);
+		return task;
+	}
+
+	private RuntimeException unwrap(ExecutionException ex) {
+		Throwable cause = ex.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			return runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		return new IllegalStateException(cause);
+	}
+
+	/**
+	 * Stops accepting lookups and waits for the running ones to finish.
+	 */
+	@Override
+	public void close() {
+		executor.close();
+	}
+}
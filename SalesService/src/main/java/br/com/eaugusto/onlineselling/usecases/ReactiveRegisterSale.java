@@ -0,0 +1,170 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
+import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.repository.IReactiveSalesRepository;
+import br.com.eaugusto.onlineselling.services.ReactiveClientService;
+import br.com.eaugusto.onlineselling.services.ReactiveProductService;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link RegisterSale}, used by the
+ * {@code reactive} profile.
+ * <p>
+ * Every mutation loads the sale while the products it needs are looked up,
+ * applies the change with the domain methods of {@link Sales} and saves it.
+ * Optimistic locking conflicts are retried by {@link SalesUpdateRetrier} on
+ * freshly loaded data, without blocking a thread in between. The in-place
+ * updates of {@code ISalesRepositoryCustom} are not used here, so every change
+ * goes through the same rules as in the blocking profile.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Profile("reactive")
+public class ReactiveRegisterSale {
+
+	private IReactiveSalesRepository salesRepository;
+
+	private ReactiveProductService productService;
+
+	private ReactiveClientService clientService;
+
+	private SalesUpdateRetrier updateRetrier;
+
+	private int maxProductChanges;
+
+	public ReactiveRegisterSale(IReactiveSalesRepository salesRepository, ReactiveProductService productService,
+			ReactiveClientService clientService, SalesUpdateRetrier updateRetrier,
+			@Value("${application.sales.maxProductChanges:500}") int maxProductChanges) {
+		this.salesRepository = salesRepository;
+		this.productService = productService;
+		this.clientService = clientService;
+		this.updateRetrier = updateRetrier;
+		this.maxProductChanges = maxProductChanges;
+	}
+
+	/**
+	 * Registers a new sale.
+	 *
+	 * @param salesDTO the sale data transfer object
+	 * @return the created sale
+	 */
+	public Mono<Sales> registerSale(SalesDTO salesDTO) {
+		Sales sale = RegisterSale.convertToDomain(salesDTO, Status.STARTED);
+		return clientService.isClientRegistered(sale.getClientId()).filter(Boolean::booleanValue)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Sales.class, "clientId",
+						sale.getClientId())))
+				.flatMap(registered -> {
+					sale.recalculateTotalSalesPrice();
+					return salesRepository.insert(sale);
+				});
+	}
+
+	/**
+	 * Marks a sale as finished.
+	 *
+	 * @param id the sale ID
+	 * @return the updated sale
+	 */
+	public Mono<Sales> finishSale(String id) {
+		return mutate(id, Mono.just(Status.FINISHED), Sales::setStatus);
+	}
+
+	/**
+	 * Cancels a sale.
+	 *
+	 * @param saleId the sale ID
+	 * @return the updated sale
+	 */
+	public Mono<Sales> cancelSale(String saleId) {
+		return mutate(saleId, Mono.just(Status.CANCELED), Sales::setStatus);
+	}
+
+	/**
+	 * Adds a product to a sale.
+	 *
+	 * @param saleId      the sale ID
+	 * @param productCode the product code
+	 * @param quantity    the quantity to add
+	 * @return the updated sale
+	 */
+	public Mono<Sales> addProduct(String saleId, String productCode, Integer quantity) {
+		return mutate(saleId, findProductByCode(productCode), (sale, product) -> sale.addProduct(product, quantity));
+	}
+
+	/**
+	 * Removes a product from a sale.
+	 *
+	 * @param saleId      the sale ID
+	 * @param productCode the product code
+	 * @param quantity    the quantity to remove
+	 * @return the updated sale
+	 */
+	public Mono<Sales> removeProduct(String saleId, String productCode, Integer quantity) {
+		return mutate(saleId, findProductByCode(productCode),
+				(sale, product) -> sale.removeProduct(product, quantity));
+	}
+
+	/**
+	 * Applies several line item changes to a sale at once. Either every change is
+	 * stored or none is.
+	 *
+	 * @param saleId  the sale ID
+	 * @param changes the changes, a positive delta adds and a negative delta
+	 *                removes units
+	 * @return the updated sale
+	 */
+	public Mono<Sales> updateProducts(String saleId, List<ProductChangeDTO> changes) {
+		return Mono.defer(() -> {
+			RegisterSale.validateProductChanges(changes, maxProductChanges);
+			Set<String> codes = RegisterSale.productCodes(changes);
+			return mutate(saleId, productService.findProductsByCodes(codes)
+					.map(found -> RegisterSale.indexByCode(codes, found)),
+					(sale, products) -> RegisterSale.applyProductChanges(sale, changes, products));
+		});
+	}
+
+	/**
+	 * Resolves what the change needs while the sale is loaded, then applies the
+	 * change and saves the sale. The first attempt uses the sale loaded alongside
+	 * the lookup, a retry after a conflict loads it again.
+	 */
+	private <T> Mono<Sales> mutate(String saleId, Mono<T> lookup, BiConsumer<Sales, T> change) {
+		return Mono.zip(lookup, findSaleById(saleId)).flatMap(found -> {
+			AtomicReference<Sales> prefetchedSale = new AtomicReference<>(found.getT2());
+			Mono<Sales> currentSale = Mono.defer(() -> Mono.justOrEmpty(prefetchedSale.getAndSet(null)))
+					.switchIfEmpty(Mono.defer(() -> findSaleById(saleId)));
+			return updateRetrier.execute(currentSale.flatMap(sale -> {
+				sale.validateSaleStatus();
+				change.accept(sale, found.getT1());
+				return salesRepository.save(sale);
+			}));
+		});
+	}
+
+	private Mono<Sales> findSaleById(String saleId) {
+		return salesRepository.findById(saleId)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Sales.class, "id", saleId)));
+	}
+
+	private Mono<Product> findProductByCode(String productCode) {
+		return productService.findProductByCode(productCode)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Product.class, "code", productCode)));
+	}
+}
@@ -0,0 +1,117 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.time.Instant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Service;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.repository.IReactiveSalesRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link SearchSale}, used by the {@code reactive}
+ * profile.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Service
+@Profile("reactive")
+public class ReactiveSearchSale {
+
+	private IReactiveSalesRepository salesRepository;
+
+	private ReactiveMongoTemplate mongoTemplate;
+
+	private int maxScrollSize;
+
+	private int defaultExportBatchSize;
+
+	private int maxExportBatchSize;
+
+	public ReactiveSearchSale(IReactiveSalesRepository salesRepository, ReactiveMongoTemplate mongoTemplate,
+			@Value("${application.sales.maxScrollSize:1000}") int maxScrollSize,
+			@Value("${application.sales.export.batchSize:500}") int defaultExportBatchSize,
+			@Value("${application.sales.export.maxBatchSize:10000}") int maxExportBatchSize) {
+		this.salesRepository = salesRepository;
+		this.mongoTemplate = mongoTemplate;
+		this.maxScrollSize = maxScrollSize;
+		this.defaultExportBatchSize = defaultExportBatchSize;
+		this.maxExportBatchSize = maxExportBatchSize;
+	}
+
+	/**
+	 * Streams one page of sales. Sales are emitted as they are read, at the pace
+	 * the subscriber requests them.
+	 *
+	 * @param pageable pagination information
+	 * @return the sales of the page
+	 */
+	public Flux<Sales> searchAllSales(Pageable pageable) {
+		return salesRepository.findAllBy(pageable);
+	}
+
+	/**
+	 * Streams one page of sale summaries, without line items.
+	 *
+	 * @param pageable pagination information
+	 * @return the sale summaries of the page
+	 */
+	public Flux<SalesSummaryDTO> searchSalesSummaries(Pageable pageable) {
+		return salesRepository.findSummariesBy(pageable);
+	}
+
+	/**
+	 * Retrieves one window of sales, ordered by sale date and id.
+	 *
+	 * @param cursor the cursor returned with the previous window, or
+	 *               {@code null} for the first window
+	 * @param size   the maximum number of sales
+	 * @return the sales and the cursor of the next window
+	 */
+	public Mono<CursorPageDTO<Sales>> scrollAllSales(String cursor, int size) {
+		return Mono.defer(() -> salesRepository.findAllBy(ScrollCursor.position(cursor, SearchSale.SCROLL_SORT),
+				ScrollCursor.limit(size, maxScrollSize), SearchSale.SCROLL_SORT))
+				.map(window -> new CursorPageDTO<>(window.getContent(), ScrollCursor.next(window)));
+	}
+
+	/**
+	 * Streams every sale matching the filters from one MongoDB cursor, in sale
+	 * date and id order. The cursor is read as fast as the subscriber requests
+	 * sales and is closed when the subscription is cancelled.
+	 *
+	 * @param status    only sales with this status, or {@code null} for all
+	 * @param from      only sales on or after this instant, or {@code null}
+	 * @param to        only sales before this instant, or {@code null}
+	 * @param batchSize the number of sales fetched per cursor batch, or
+	 *                  {@code null} for the configured default
+	 * @return the matching sales, or a {@link BadRequestException} if the range
+	 *         is empty or the batch size is out of range
+	 */
+	public Flux<Sales> exportSales(Status status, Instant from, Instant to, Integer batchSize) {
+		return Flux.defer(() -> mongoTemplate.find(ExportSales.exportQuery(status, from, to,
+				batchSize == null ? defaultExportBatchSize : batchSize, maxExportBatchSize), Sales.class));
+	}
+
+	/**
+	 * Finds a sale by its unique code.
+	 *
+	 * @param salesCode the sales code
+	 * @return the matching sale, or an {@link EntityNotFoundException} if no sale
+	 *         is found
+	 */
+	public Mono<Sales> searchByCode(String salesCode) {
+		return salesRepository.searchByCode(salesCode)
+				.switchIfEmpty(Mono.error(() -> new EntityNotFoundException(Sales.class, "code", salesCode)));
+	}
+}
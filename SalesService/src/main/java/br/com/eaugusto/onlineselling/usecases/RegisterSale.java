@@ -1,14 +1,26 @@
 package br.com.eaugusto.onlineselling.usecases;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
 import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.ProductQuantitySet;
 import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
 import br.com.eaugusto.onlineselling.dto.SalesDTO;
 import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
 import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
 import br.com.eaugusto.onlineselling.repository.ISalesRepository;
 import br.com.eaugusto.onlineselling.services.ClientService;
@@ -21,11 +33,18 @@ import jakarta.validation.Valid;
  * This class provides business logic for creating, modifying, finishing,
  * canceling, and managing products within sales.
  * </p>
+ *
+ * <p>
+ * Mutations of existing sales run through {@link SalesUpdateRetrier}, so a
+ * mutation that loses an optimistic locking race is applied again on the
+ * current state of the sale instead of overwriting the concurrent change.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
 @Service
+@Profile("!reactive")
 public class RegisterSale {
 
 	private ISalesRepository salesRepository;
@@ -34,10 +53,21 @@ public class RegisterSale {
 
 	private ClientService clientService;
 
-	public RegisterSale(ISalesRepository salesRepository, IProductService productService, ClientService clientService) {
+	private SalesUpdateRetrier updateRetrier;
+
+	private LookupFanOut lookupFanOut;
+
+	private int maxProductChanges;
+
+	public RegisterSale(ISalesRepository salesRepository, IProductService productService, ClientService clientService,
+			SalesUpdateRetrier updateRetrier, LookupFanOut lookupFanOut,
+			@Value("${application.sales.maxProductChanges:500}") int maxProductChanges) {
 		this.salesRepository = salesRepository;
 		this.productService = productService;
 		this.clientService = clientService;
+		this.updateRetrier = updateRetrier;
+		this.lookupFanOut = lookupFanOut;
+		this.maxProductChanges = maxProductChanges;
 	}
 
 	/**
@@ -60,10 +90,10 @@ public class RegisterSale {
 		}
 	}
 
-	private Sales convertToDomain(@Valid SalesDTO salesDTO, Status status) {
+	static Sales convertToDomain(@Valid SalesDTO salesDTO, Status status) {
 		return Sales.builder().clientId(salesDTO.getClientId()).code(salesDTO.getCode())
 				.saleDate(salesDTO.getSaleDate()).status(status).totalPrice(BigDecimal.ZERO)
-				.productsSet(new HashSet<>()).build();
+				.productsSet(new ProductQuantitySet()).build();
 	}
 
 	/**
@@ -83,10 +113,12 @@ public class RegisterSale {
 	 * @return the updated sale
 	 */
 	public Sales finishSale(String id) {
-		Sales sale = findSaleById(id);
-		sale.validateSaleStatus();
-		sale.setStatus(Status.FINISHED);
-		return this.salesRepository.save(sale);
+		return updateRetrier.execute(() -> {
+			Sales sale = findSaleById(id);
+			sale.validateSaleStatus();
+			sale.setStatus(Status.FINISHED);
+			return this.salesRepository.save(sale);
+		});
 	}
 
 	/**
@@ -96,14 +128,20 @@ public class RegisterSale {
 	 * @return the updated sale
 	 */
 	public Sales cancelSale(String saleId) {
-		Sales sale = findSaleById(saleId);
-		sale.validateSaleStatus();
-		sale.setStatus(Status.CANCELED);
-		return this.salesRepository.save(sale);
+		return updateRetrier.execute(() -> {
+			Sales sale = findSaleById(saleId);
+			sale.validateSaleStatus();
+			sale.setStatus(Status.CANCELED);
+			return this.salesRepository.save(sale);
+		});
 	}
 
 	/**
 	 * Adds a product to a sale.
+	 * <p>
+	 * Tries a single in-place update of the stored sale first and only loads and
+	 * rewrites the whole document when that update does not apply.
+	 * </p>
 	 *
 	 * @param saleId      the sale ID
 	 * @param productCode the product code
@@ -111,15 +149,18 @@ public class RegisterSale {
 	 * @return the updated sale
 	 */
 	public Sales addProduct(String saleId, String productCode, Integer quantity) {
-		Sales sale = findSaleById(saleId);
 		Product product = findProductByCode(productCode);
-		sale.validateSaleStatus();
-		sale.addProduct(product, quantity);
-		return this.salesRepository.save(sale);
+		return updateRetrier.execute(() -> salesRepository.incrementProductQuantity(saleId, product, quantity)
+				.or(() -> salesRepository.pushProductQuantity(saleId, product, quantity))
+				.orElseGet(() -> addProductToLoadedSale(saleId, product, quantity)));
 	}
 
 	/**
 	 * Removes a product from a sale.
+	 * <p>
+	 * Tries a single in-place update of the stored sale first and only loads and
+	 * rewrites the whole document when that update does not apply.
+	 * </p>
 	 *
 	 * @param saleId      the sale ID
 	 * @param productCode the product code
@@ -127,8 +168,113 @@ public class RegisterSale {
 	 * @return the updated sale
 	 */
 	public Sales removeProduct(String saleId, String productCode, Integer quantity) {
-		Sales sale = findSaleById(saleId);
 		Product product = findProductByCode(productCode);
+		return updateRetrier.execute(() -> salesRepository.decrementProductQuantity(saleId, product, quantity)
+				.orElseGet(() -> removeProductFromLoadedSale(saleId, product, quantity)));
+	}
+
+	/**
+	 * Applies several line item changes to a sale at once.
+	 * <p>
+	 * All products are resolved with one batch lookup while the sale is loaded,
+	 * then the changes are applied in order to the sale and it is saved once. A
+	 * retry after a concurrent modification loads the sale again. Either every
+	 * change is stored or none is: an unknown product code, an invalid change or
+	 * a sale that can no longer be modified rejects the whole batch.
+	 * </p>
+	 *
+	 * @param saleId  the sale ID
+	 * @param changes the changes, a positive delta adds and a negative delta
+	 *                removes units
+	 * @return the updated sale
+	 */
+	public Sales updateProducts(String saleId, List<ProductChangeDTO> changes) {
+		validateProductChanges(changes, maxProductChanges);
+		return lookupFanOut.both(() -> findProductsByCodes(changes), () -> findSaleById(saleId),
+				(products, loadedSale) -> {
+					AtomicReference<Sales> prefetchedSale = new AtomicReference<>(loadedSale);
+					return updateRetrier.execute(() -> {
+						Sales sale = Optional.ofNullable(prefetchedSale.getAndSet(null))
+								.orElseGet(() -> findSaleById(saleId));
+						applyProductChanges(sale, changes, products);
+						return this.salesRepository.save(sale);
+					});
+				});
+	}
+
+	/**
+	 * Applies line item changes to a loaded sale, in order. Shared with
+	 * {@link ReactiveRegisterSale}.
+	 */
+	static void applyProductChanges(Sales sale, List<ProductChangeDTO> changes, Map<String, Product> products) {
+		sale.validateSaleStatus();
+		for (ProductChangeDTO change : changes) {
+			Product product = products.get(change.getCode());
+			if (change.getDelta() > 0) {
+				sale.addProduct(product, change.getDelta());
+			} else {
+				sale.removeProduct(product, -change.getDelta());
+			}
+		}
+	}
+
+	static void validateProductChanges(List<ProductChangeDTO> changes, int maxProductChanges) {
+		if (changes == null || changes.isEmpty()) {
+			throw new BadRequestException("At least one product change is required");
+		}
+		if (changes.size() > maxProductChanges) {
+			throw new BadRequestException("At most " + maxProductChanges + " product changes can be applied at once");
+		}
+		for (ProductChangeDTO change : changes) {
+			if (change == null || change.getCode() == null || change.getDelta() == null || change.getDelta() == 0) {
+				throw new BadRequestException("Every product change needs a code and a non-zero delta");
+			}
+		}
+	}
+
+	private Map<String, Product> findProductsByCodes(List<ProductChangeDTO> changes) {
+		Set<String> codes = productCodes(changes);
+		return indexByCode(codes, productService.findProductsByCodes(codes));
+	}
+
+	static Set<String> productCodes(List<ProductChangeDTO> changes) {
+		return changes.stream().map(ProductChangeDTO::getCode).collect(Collectors.toCollection(LinkedHashSet::new));
+	}
+
+	/**
+	 * Indexes the products found by code, rejecting the batch if any requested
+	 * code is missing.
+	 */
+	static Map<String, Product> indexByCode(Set<String> codes, List<Product> found) {
+		Map<String, Product> products = found.stream()
+				.collect(Collectors.toMap(Product::getCode, Function.identity(), (first, second) -> first));
+		for (String code : codes) {
+			if (!products.containsKey(code)) {
+				throw new EntityNotFoundException(Product.class, "code", code);
+			}
+		}
+		return products;
+	}
+
+	/**
+	 * Fallback for {@link #addProduct} when the in-place update does not apply,
+	 * e.g. the stored line item has a different price or the sale is not
+	 * {@code STARTED}. Loads the sale so the domain rules decide the outcome.
+	 */
+	private Sales addProductToLoadedSale(String saleId, Product product, Integer quantity) {
+		Sales sale = findSaleById(saleId);
+		sale.validateSaleStatus();
+		sale.addProduct(product, quantity);
+		return this.salesRepository.save(sale);
+	}
+
+	/**
+	 * Fallback for {@link #removeProduct} when the in-place update does not apply,
+	 * e.g. the whole line item is being removed or the sale is not
+	 * {@code STARTED}. Loads the sale so the domain rules decide the outcome.
+	 */
+	private Sales removeProductFromLoadedSale(String saleId, Product product, Integer quantity) {
+		Sales sale = findSaleById(saleId);
 		sale.validateSaleStatus();
 		sale.removeProduct(product, quantity);
 		return this.salesRepository.save(sale);
@@ -0,0 +1,120 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Re-runs {@link Sales} mutations that lost an optimistic locking race.
+ * <p>
+ * A mutation is expected to load the sale, apply its change and save it. When
+ * the save fails because another request changed the sale in between, the whole
+ * mutation is executed again on fresh data, up to a configured number of
+ * attempts. Attempts are separated by a randomized exponential backoff so
+ * concurrent writers do not collide again in lockstep.
+ * </p>
+ *
+ * <p>
+ * Reactive mutations get the same policy by resubscribing, without holding a
+ * thread during the backoff.
+ * </p>
+ *
+ * <p>
+ * Exposes the {@code sales.update.conflicts}, {@code sales.update.retries} and
+ * {@code sales.update.exhausted} counters.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+@Component
+@Slf4j
+public class SalesUpdateRetrier {
+
+	private final int maxAttempts;
+	private final long backoffNanos;
+	private final Counter conflicts;
+	private final Counter retries;
+	private final Counter exhausted;
+
+	public SalesUpdateRetrier(@Value("${application.sales.updateRetry.maxAttempts:5}") int maxAttempts,
+			@Value("${application.sales.updateRetry.backoff:10ms}") Duration backoff, MeterRegistry meterRegistry) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.backoffNanos = backoff.toNanos();
+		this.conflicts = Counter.builder("sales.update.conflicts")
+				.description("Sale saves rejected because of a concurrent modification").register(meterRegistry);
+		this.retries = Counter.builder("sales.update.retries")
+				.description("Sale mutations re-applied after a conflict").register(meterRegistry);
+		this.exhausted = Counter.builder("sales.update.exhausted")
+				.description("Sale mutations that kept conflicting until attempts ran out").register(meterRegistry);
+	}
+
+	/**
+	 * Executes a sale mutation, re-applying it on optimistic locking conflicts.
+	 *
+	 * @param mutation loads, changes and saves a sale
+	 * @return the saved sale
+	 * @throws OptimisticLockingFailureException if every attempt conflicted
+	 */
+	public Sales execute(Supplier<Sales> mutation) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return mutation.get();
+			} catch (OptimisticLockingFailureException ex) {
+				conflicts.increment();
+				if (attempt >= maxAttempts) {
+					exhausted.increment();
+					throw ex;
+				}
+				log.debug("Concurrent modification of sale, retrying (attempt {} of {})", attempt + 1, maxAttempts);
+				backoff(attempt, ex);
+				retries.increment();
+			}
+		}
+	}
+
+	/**
+	 * Reactive counterpart of {@link #execute(Supplier)}. The mutation must be
+	 * lazy, e.g. built with {@link Mono#defer}, so every attempt loads the sale
+	 * again.
+	 *
+	 * @param mutation loads, changes and saves a sale when subscribed
+	 * @return the saved sale, or an {@link OptimisticLockingFailureException} if
+	 *         every attempt conflicted
+	 */
+	public Mono<Sales> execute(Mono<Sales> mutation) {
+		Retry retry = Retry.backoff(maxAttempts - 1L, Duration.ofNanos(backoffNanos)).jitter(1.0)
+				.filter(OptimisticLockingFailureException.class::isInstance)
+				.doBeforeRetry(signal -> retries.increment())
+				.onRetryExhaustedThrow((spec, signal) -> {
+					exhausted.increment();
+					return signal.failure();
+				});
+		return mutation.doOnError(OptimisticLockingFailureException.class, ex -> conflicts.increment())
+				.retryWhen(retry);
+	}
+
+	private void backoff(int attempt, OptimisticLockingFailureException ex) {
+		if (backoffNanos <= 0) {
+			return;
+		}
+		long ceiling = backoffNanos << Math.min(attempt - 1, 10);
+		try {
+			Thread.sleep(Duration.ofNanos(ThreadLocalRandom.current().nextLong(ceiling + 1)));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ex;
+		}
+	}
+}
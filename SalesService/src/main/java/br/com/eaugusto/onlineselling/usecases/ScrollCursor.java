@@ -0,0 +1,114 @@
+package br.com.eaugusto.onlineselling.usecases;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.bson.Document;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+
+/**
+ * Encodes and decodes the opaque cursors of keyset listings.
+ * <p>
+ * A cursor holds the keyset of the last element of a window, i.e. the values
+ * of its sort properties plus its id, as MongoDB extended JSON encoded with
+ * URL-safe Base64. The next window is read with a range query on those values,
+ * so it costs the same however deep the listing goes.
+ * </p>
+ *
+ * <p>
+ * Decoded cursors must contain exactly the keys of the listing's sort and plain
+ * values only, so a forged cursor cannot add arbitrary criteria to the query.
+ * </p>
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+public final class ScrollCursor {
+
+	private static final String ID_PROPERTY = "id";
+
+	private static final JsonWriterSettings JSON_SETTINGS = JsonWriterSettings.builder()
+			.outputMode(JsonMode.RELAXED).build();
+
+	private ScrollCursor() {
+	}
+
+	/**
+	 * Returns the cursor continuing after the last element of a window.
+	 *
+	 * @param window a window read with a keyset scroll position
+	 * @return the cursor, or {@code null} if the window is the last one
+	 */
+	public static String next(Window<?> window) {
+		if (window.isEmpty() || !window.hasNext()) {
+			return null;
+		}
+		KeysetScrollPosition position = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+		Document keyset = new Document();
+		position.getKeys()
+				.forEach((key, value) -> keyset.put(key, value instanceof Instant instant ? Date.from(instant) : value));
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(keyset.toJson(JSON_SETTINGS).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the scroll position a cursor continues from.
+	 *
+	 * @param cursor the cursor, or {@code null} to start from the beginning
+	 * @param sort   the sort of the listing
+	 * @return the keyset scroll position
+	 * @throws BadRequestException if the cursor is malformed or belongs to a
+	 *                             listing with a different sort
+	 */
+	public static KeysetScrollPosition position(String cursor, Sort sort) {
+		if (cursor == null || cursor.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+		Document keyset;
+		try {
+			keyset = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch (RuntimeException ex) {
+			throw new BadRequestException("Invalid cursor");
+		}
+		Set<String> keys = new HashSet<>();
+		sort.forEach(order -> keys.add(order.getProperty()));
+		keys.add(ID_PROPERTY);
+		if (!keyset.keySet().equals(keys) || !keyset.values().stream().allMatch(ScrollCursor::isPlainValue)) {
+			throw new BadRequestException("Invalid cursor");
+		}
+		return ScrollPosition.forward(keyset);
+	}
+
+	/**
+	 * Returns the limit of a window after checking the requested size.
+	 *
+	 * @param size    the requested number of elements
+	 * @param maxSize the largest window allowed
+	 * @return the limit
+	 * @throws BadRequestException if the size is not between 1 and the maximum
+	 */
+	public static Limit limit(int size, int maxSize) {
+		if (size < 1 || size > maxSize) {
+			throw new BadRequestException("The window size must be between 1 and " + maxSize);
+		}
+		return Limit.of(size);
+	}
+
+	private static boolean isPlainValue(Object value) {
+		return value instanceof String || value instanceof Date || value instanceof Number
+				|| value instanceof ObjectId;
+	}
+}
@@ -1,10 +1,20 @@
 package br.com.eaugusto.onlineselling.usecases;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 
 import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.CursorPageDTO;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
 import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
 import br.com.eaugusto.onlineselling.repository.ISalesRepository;
 
@@ -14,17 +24,40 @@ import br.com.eaugusto.onlineselling.repository.ISalesRepository;
  * Provides operations to find sales by code and to list all sales in a
  * paginated format.
  * </p>
+ *
+ * <p>
+ * Pages can also be read as slices, which skip the count query and carry an
+ * estimated or cached total only when asked for, either as full sales or as
+ * summaries without line items.
+ * </p>
+ *
+ * <p>
+ * Sales can also be listed with a cursor, ordered by sale date and id. Each
+ * window continues after the last sale of the previous one through the
+ * {@code saleDate_id} index, without skipping over earlier sales or counting
+ * them.
+ * </p>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
  * @since Aug 14, 2025
  */
 @Service
+@Profile("!reactive")
 public class SearchSale {
 
+	static final Sort SCROLL_SORT = Sort.by("saleDate", "id");
+
 	private ISalesRepository salesRepository;
 
-	public SearchSale(ISalesRepository salesRepository) {
+	private TotalCounter totalCounter;
+
+	private int maxScrollSize;
+
+	public SearchSale(ISalesRepository salesRepository, TotalCounter totalCounter,
+			@Value("${application.sales.maxScrollSize:1000}") int maxScrollSize) {
 		this.salesRepository = salesRepository;
+		this.totalCounter = totalCounter;
+		this.maxScrollSize = maxScrollSize;
 	}
 
 	/**
@@ -37,6 +70,48 @@ public class SearchSale {
 		return salesRepository.findAll(pageable);
 	}
 
+	/**
+	 * Retrieves one page of sales without counting the collection on every
+	 * request.
+	 *
+	 * @param pageable    pagination information
+	 * @param totalSource how the total is obtained, if at all
+	 * @return the sales of the page and whether a next page exists
+	 */
+	public SliceDTO<Sales> sliceAllSales(Pageable pageable, TotalSource totalSource) {
+		Slice<Sales> slice = salesRepository.findAllBy(pageable);
+		return SliceDTO.of(slice, totalCounter.total(Sales.class, totalSource), totalSource);
+	}
+
+	/**
+	 * Retrieves one page of sale summaries, without line items and without
+	 * counting the collection on every request.
+	 *
+	 * @param pageable    pagination information
+	 * @param totalSource how the total is obtained, if at all
+	 * @return the sale summaries of the page and whether a next page exists
+	 */
+	public SliceDTO<SalesSummaryDTO> searchSalesSummaries(Pageable pageable, TotalSource totalSource) {
+		Slice<SalesSummaryDTO> slice = salesRepository.findSummariesBy(pageable);
+		return SliceDTO.of(slice, totalCounter.total(Sales.class, totalSource), totalSource);
+	}
+
+	/**
+	 * Retrieves one window of sales, ordered by sale date and id.
+	 *
+	 * @param cursor the cursor returned with the previous window, or
+	 *               {@code null} for the first window
+	 * @param size   the maximum number of sales
+	 * @return the sales and the cursor of the next window
+	 * @throws BadRequestException if the cursor is invalid or the size is out of
+	 *                             range
+	 */
+	public CursorPageDTO<Sales> scrollAllSales(String cursor, int size) {
+		Window<Sales> window = salesRepository.findAllBy(ScrollCursor.position(cursor, SCROLL_SORT),
+				ScrollCursor.limit(size, maxScrollSize), SCROLL_SORT);
+		return new CursorPageDTO<>(window.getContent(), ScrollCursor.next(window));
+	}
+
 	/**
 	 * Finds a sale by its unique code.
 	 *
@@ -0,0 +1,121 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.services.CachedProductService;
+import br.com.eaugusto.onlineselling.services.DependencyGuard;
+import br.com.eaugusto.onlineselling.services.IProductService;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link CachedProductService}.
+ * <p>
+ * Verifies that product snapshots and unknown codes are served from the cache
+ * after the first remote lookup, that batch lookups only request uncached
+ * codes, and that hits and misses are published as metrics.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class CachedProductServiceTest {
+
+	@Mock
+	private IProductService remoteProductService;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CachedProductService cachedProductService;
+
+	private final Product product = Product.builder().id("1").code("P001").name("Product P001")
+			.description("Description").price(BigDecimal.TEN).build();
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		cachedProductService = new CachedProductService(remoteProductService, 100, Duration.ofMinutes(10),
+				Duration.ofMinutes(1), Duration.ofSeconds(30), Runnable::run, meterRegistry,
+				new DependencyGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()));
+	}
+
+	private FeignException.NotFound notFound() {
+		Request request = Request.create(Request.HttpMethod.GET, "/product/code/P404", Collections.emptyMap(),
+				null, StandardCharsets.UTF_8, null);
+		return new FeignException.NotFound("Not Found", request, null, Collections.emptyMap());
+	}
+
+	@Test
+	void repeatedLookupsAreServedFromCache() {
+		when(remoteProductService.findProductByCode("P001")).thenReturn(product);
+
+		assertSame(product, cachedProductService.findProductByCode("P001"));
+		assertSame(product, cachedProductService.findProductByCode("P001"));
+
+		verify(remoteProductService, times(1)).findProductByCode("P001");
+		assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "products").tag("result", "hit")
+				.functionCounter().count());
+		assertEquals(1, meterRegistry.get("cache.gets").tag("cache", "products").tag("result", "miss")
+				.functionCounter().count());
+	}
+
+	@Test
+	void unknownCodesAreNegativelyCached() {
+		when(remoteProductService.findProductByCode("P404")).thenThrow(notFound());
+
+		assertNull(cachedProductService.findProductByCode("P404"));
+		assertNull(cachedProductService.findProductByCode("P404"));
+
+		verify(remoteProductService, times(1)).findProductByCode("P404");
+	}
+
+	@Test
+	void invalidatedProductsAreLoadedAgain() {
+		when(remoteProductService.findProductByCode("P001")).thenReturn(product);
+
+		cachedProductService.findProductByCode("P001");
+		cachedProductService.invalidate("P001");
+		cachedProductService.findProductByCode("P001");
+
+		verify(remoteProductService, times(2)).findProductByCode("P001");
+	}
+
+	@Test
+	void batchLookupsOnlyRequestUncachedCodes() {
+		Product other = Product.builder().id("2").code("P002").name("Product P002").description("Description")
+				.price(BigDecimal.ONE).build();
+		when(remoteProductService.findProductByCode("P001")).thenReturn(product);
+		when(remoteProductService.findProductsByCodes(List.of("P002", "P404"))).thenReturn(List.of(other));
+
+		cachedProductService.findProductByCode("P001");
+		List<Product> found = cachedProductService.findProductsByCodes(List.of("P001", "P002", "P404"));
+
+		assertEquals(List.of(product, other), found);
+		assertNull(cachedProductService.findProductByCode("P404"));
+		verify(remoteProductService, times(1)).findProductsByCodes(List.of("P002", "P404"));
+		verify(remoteProductService, never()).findProductByCode("P404");
+	}
+}
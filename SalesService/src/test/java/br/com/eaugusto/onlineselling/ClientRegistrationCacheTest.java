@@ -0,0 +1,101 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.eaugusto.onlineselling.services.ClientRegistrationCache;
+
+/**
+ * Unit tests for {@link ClientRegistrationCache}.
+ * <p>
+ * Verifies that registered and unknown clients expire after their own
+ * lifetimes, that ids which are not ObjectIds bypass the cache, and that
+ * colliding keys never return another client's result.
+ * <p>
+ * Uses a manual ticker instead of the system clock and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ClientRegistrationCacheTest {
+
+	private static final String CLIENT_ID = "66f1c2a9e4b0a1b2c3d4e5f6";
+
+	private final AtomicLong nanos = new AtomicLong();
+
+	private ClientRegistrationCache cache;
+
+	@BeforeEach
+	void setup() {
+		cache = new ClientRegistrationCache(16, Duration.ofHours(12), Duration.ofSeconds(30), nanos::get);
+	}
+
+	private void advance(Duration duration) {
+		nanos.addAndGet(duration.toNanos());
+	}
+
+	@Test
+	void registeredClientsAreKeptForTheLongLifetime() {
+		cache.put(CLIENT_ID, true);
+
+		advance(Duration.ofHours(11));
+		assertEquals(Boolean.TRUE, cache.get(CLIENT_ID));
+
+		advance(Duration.ofHours(1));
+		assertNull(cache.get(CLIENT_ID));
+	}
+
+	@Test
+	void unknownClientsExpireQuickly() {
+		cache.put(CLIENT_ID, false);
+
+		assertEquals(Boolean.FALSE, cache.get(CLIENT_ID));
+
+		advance(Duration.ofSeconds(30));
+		assertNull(cache.get(CLIENT_ID));
+	}
+
+	@Test
+	void idsThatAreNotObjectIdsAreNeverCached() {
+		cache.put("C001", true);
+
+		assertNull(cache.get("C001"));
+		assertNull(cache.get(null));
+	}
+
+	@Test
+	void invalidatedClientsAreForgotten() {
+		cache.put(CLIENT_ID, true);
+		cache.invalidate(CLIENT_ID);
+
+		assertNull(cache.get(CLIENT_ID));
+
+		cache.put(CLIENT_ID, true);
+		cache.invalidateAll();
+
+		assertNull(cache.get(CLIENT_ID));
+	}
+
+	@Test
+	void collidingClientsNeverSeeEachOthersResult() {
+		for (int i = 0; i < 256; i++) {
+			cache.put(String.format("66f1c2a9e4b0a1b2%08x", i), i % 2 == 0);
+		}
+
+		int cached = 0;
+		for (int i = 0; i < 256; i++) {
+			Boolean registered = cache.get(String.format("66f1c2a9e4b0a1b2%08x", i));
+			if (registered != null) {
+				assertEquals(i % 2 == 0, registered);
+				cached++;
+			}
+		}
+		assertEquals(cache.capacity(), cached);
+	}
+}
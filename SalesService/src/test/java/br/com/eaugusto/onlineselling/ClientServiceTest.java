@@ -0,0 +1,82 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import br.com.eaugusto.onlineselling.services.ClientRegistrationCache;
+import br.com.eaugusto.onlineselling.services.ClientService;
+import br.com.eaugusto.onlineselling.services.DependencyGuard;
+import br.com.eaugusto.onlineselling.services.RestRequest;
+import br.com.eaugusto.onlineselling.services.RestUtils;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Unit tests for {@link ClientService}.
+ * <p>
+ * Verifies that registration checks are answered from the cache once the
+ * client service has answered them.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ClientServiceTest {
+
+	private static final String ENDPOINT = "http://localhost:8081/client/isRegistered/{id}";
+	private static final String REGISTERED_ID = "66f1c2a9e4b0a1b2c3d4e5f2";
+	private static final String UNKNOWN_ID = "66f1c2a9e4b0a1b2c3d4e5f3";
+
+	@Mock
+	private RestUtils restUtils;
+
+	private ClientRegistrationCache registrationCache;
+
+	private ClientService clientService;
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		registrationCache = new ClientRegistrationCache(16, Duration.ofHours(12), Duration.ofSeconds(30),
+				System::nanoTime);
+		clientService = new ClientService(restUtils, registrationCache,
+				new DependencyGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()));
+		ReflectionTestUtils.setField(clientService, "searchClientEndpointUrl", ENDPOINT);
+	}
+
+	private String endpoint(String clientId) {
+		return ENDPOINT.replace("{id}", clientId);
+	}
+
+	@Test
+	void answersAreCachedPerClient() {
+		when(restUtils.execute(eq(endpoint(REGISTERED_ID)), any(RestRequest.class), eq(Boolean.class)))
+				.thenReturn(ResponseEntity.ok(true));
+		when(restUtils.execute(eq(endpoint(UNKNOWN_ID)), any(RestRequest.class), eq(Boolean.class)))
+				.thenReturn(ResponseEntity.ok(false));
+
+		assertEquals(Boolean.TRUE, clientService.isClientRegistered(REGISTERED_ID));
+		assertEquals(Boolean.TRUE, clientService.isClientRegistered(REGISTERED_ID));
+		assertEquals(Boolean.FALSE, clientService.isClientRegistered(UNKNOWN_ID));
+		assertEquals(Boolean.FALSE, clientService.isClientRegistered(UNKNOWN_ID));
+
+		verify(restUtils, times(1)).execute(eq(endpoint(REGISTERED_ID)), any(RestRequest.class), eq(Boolean.class));
+		verify(restUtils, times(1)).execute(eq(endpoint(UNKNOWN_ID)), any(RestRequest.class), eq(Boolean.class));
+		assertEquals(Boolean.TRUE, registrationCache.get(REGISTERED_ID));
+		assertEquals(Boolean.FALSE, registrationCache.get(UNKNOWN_ID));
+	}
+}
@@ -0,0 +1,67 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.eaugusto.onlineselling.exception.DependencyUnavailableException;
+import br.com.eaugusto.onlineselling.services.DependencyGuard;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Unit tests for {@link DependencyGuard}.
+ * <p>
+ * Verifies that calls are refused without reaching the dependency while its
+ * circuit breaker is open or its bulkhead is full, and that failures of calls
+ * that were let through are thrown unchanged.
+ * <p>
+ * Uses JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class DependencyGuardTest {
+
+	private CircuitBreakerRegistry circuitBreakers;
+
+	private DependencyGuard dependencyGuard;
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@BeforeEach
+	void setup() {
+		circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+		dependencyGuard = new DependencyGuard(circuitBreakers,
+				BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).build()));
+	}
+
+	@Test
+	void openCircuitRefusesCalls() {
+		circuitBreakers.circuitBreaker(DependencyGuard.PRODUCT_SERVICE).transitionToOpenState();
+
+		assertThrows(DependencyUnavailableException.class,
+				() -> dependencyGuard.call(DependencyGuard.PRODUCT_SERVICE, calls::incrementAndGet));
+		assertEquals(1, dependencyGuard.call(DependencyGuard.CLIENT_SERVICE, calls::incrementAndGet));
+	}
+
+	@Test
+	void fullBulkheadRefusesCalls() {
+		assertThrows(DependencyUnavailableException.class,
+				() -> dependencyGuard.call(DependencyGuard.CLIENT_SERVICE,
+						() -> dependencyGuard.call(DependencyGuard.CLIENT_SERVICE, calls::incrementAndGet)));
+		assertEquals(0, calls.get());
+	}
+
+	@Test
+	void failuresOfPermittedCallsAreRethrown() {
+		assertThrows(IllegalStateException.class, () -> dependencyGuard.call(DependencyGuard.PRODUCT_SERVICE, () -> {
+			throw new IllegalStateException("Product service error");
+		}));
+	}
+}
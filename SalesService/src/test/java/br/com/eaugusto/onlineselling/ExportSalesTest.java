@@ -0,0 +1,118 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.usecases.ExportSales;
+
+/**
+ * Unit tests for the {@link ExportSales} use case.
+ * <p>
+ * Verifies that sales are written one JSON document per line, that the filters
+ * and batch size reach the MongoDB query, that invalid filters are rejected
+ * before anything is read, and that the cursor is closed when the client goes
+ * away.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ExportSalesTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+	private final ExportSales exportSales = new ExportSales(mongoTemplate, objectMapper, 2, 100);
+
+	private Sales createSale(String code) {
+		return Sales.builder().id("id-" + code).code(code).clientId("C001").status(Status.FINISHED)
+				.totalPrice(BigDecimal.TEN).saleDate(Instant.parse("2025-08-14T10:00:00Z")).build();
+	}
+
+	@Test
+	void salesAreWrittenOnePerLine() throws IOException {
+		when(mongoTemplate.stream(any(Query.class), eq(Sales.class)))
+				.thenReturn(Stream.of(createSale("S001"), createSale("S002"), createSale("S003")));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		exportSales.exportSales(null, null, null, null).writeTo(out);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(3, lines.length);
+		assertEquals("S002", objectMapper.readValue(lines[1], Sales.class).getCode());
+		assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}\n"));
+	}
+
+	@Test
+	void filtersAndBatchSizeReachTheQuery() throws IOException {
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		when(mongoTemplate.stream(query.capture(), eq(Sales.class))).thenReturn(Stream.empty());
+		Instant from = Instant.parse("2025-08-01T00:00:00Z");
+		Instant to = Instant.parse("2025-09-01T00:00:00Z");
+
+		exportSales.exportSales(Status.FINISHED, from, to, 50).writeTo(new ByteArrayOutputStream());
+
+		Document filter = query.getValue().getQueryObject();
+		assertEquals(Status.FINISHED, filter.get("status"));
+		assertEquals(new Document("$gte", from).append("$lt", to), filter.get("saleDate"));
+		assertEquals(50, query.getValue().getMeta().getCursorBatchSize());
+	}
+
+	@Test
+	void invalidFiltersAreRejectedBeforeReading() {
+		Instant date = Instant.parse("2025-08-01T00:00:00Z");
+
+		assertThrows(BadRequestException.class, () -> exportSales.exportSales(null, date, date, null));
+		assertThrows(BadRequestException.class, () -> exportSales.exportSales(null, null, null, 101));
+		assertThrows(BadRequestException.class, () -> exportSales.exportSales(null, null, null, 0));
+
+		verify(mongoTemplate, never()).stream(any(Query.class), eq(Sales.class));
+	}
+
+	@Test
+	void cursorIsClosedWhenClientDisconnects() {
+		AtomicBoolean closed = new AtomicBoolean();
+		when(mongoTemplate.stream(any(Query.class), eq(Sales.class)))
+				.thenReturn(Stream.of(createSale("S001"), createSale("S002")).onClose(() -> closed.set(true)));
+		OutputStream disconnected = new OutputStream() {
+
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		assertThrows(IOException.class, () -> exportSales.exportSales(null, null, null, 1).writeTo(disconnected));
+		assertTrue(closed.get());
+	}
+}
@@ -0,0 +1,270 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.DefaultDbRefResolver;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions.BigDecimalRepresentation;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.result.UpdateResult;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.repository.ISalesRepository;
+import br.com.eaugusto.onlineselling.repository.ISalesRepositoryCustomImpl;
+
+/**
+ * Unit tests for {@link ISalesRepository}.
+ * <p>
+ * Runs a real repository proxy against a mocked MongoDB collection. Verifies
+ * that the {@link SalesSummaryDTO} projection requests the summary fields under
+ * their stored names, that {@code productsSet} is never requested, that a
+ * missing {@code totalQuantity} is summed from the line items, and that it is
+ * read back as {@code totalProductQuantity}. Also verifies that a sale loaded
+ * without a version is updated, not inserted, and the filter and update
+ * documents of the in-place line item updates, which return empty when their
+ * guard does not match.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ISalesRepositoryTest {
+
+	private ISalesRepository salesRepository;
+
+	@SuppressWarnings("unchecked")
+	private final MongoCollection<Document> collection = mock(MongoCollection.class);
+
+	@SuppressWarnings("unchecked")
+	private final FindIterable<Document> findIterable = mock(FindIterable.class, RETURNS_SELF);
+
+	@SuppressWarnings("unchecked")
+	private final MongoCursor<Document> cursor = mock(MongoCursor.class);
+
+	private final ObjectId saleId = new ObjectId();
+
+	private final Date saleDate = Date.from(Instant.parse("2025-08-14T10:00:00Z"));
+
+	private final Product product = Product.builder().id("p1").code("P001").name("Product P001")
+			.description("Description").price(new BigDecimal("10.50")).build();
+
+	private Document capturedFilter() {
+		ArgumentCaptor<Bson> filter = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).findOneAndUpdate(filter.capture(), any(Bson.class), any(FindOneAndUpdateOptions.class));
+		return (Document) filter.getValue();
+	}
+
+	private Document capturedUpdate() {
+		ArgumentCaptor<Bson> update = ArgumentCaptor.forClass(Bson.class);
+		verify(collection).findOneAndUpdate(any(Bson.class), update.capture(), any(FindOneAndUpdateOptions.class));
+		return (Document) update.getValue();
+	}
+
+	@BeforeEach
+	void setup() {
+		MongoDatabaseFactory databaseFactory = mock(MongoDatabaseFactory.class);
+		MongoDatabase database = mock(MongoDatabase.class);
+		when(databaseFactory.getMongoDatabase()).thenReturn(database);
+		when(databaseFactory.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(databaseFactory.getExceptionTranslator()).thenReturn(new MongoExceptionTranslator());
+		when(database.getCollection(anyString(), eq(Document.class))).thenReturn(collection);
+		when(database.getCodecRegistry()).thenReturn(MongoClientSettings.getDefaultCodecRegistry());
+		when(collection.find(any(Bson.class), eq(Document.class))).thenReturn(findIterable);
+		when(findIterable.iterator()).thenReturn(cursor);
+		when(cursor.hasNext()).thenReturn(true, false);
+		when(cursor.next()).thenReturn(new Document("_id", saleId).append("code", "S001").append("clientId", "C001")
+				.append("status", "FINISHED").append("totalPrice", new Decimal128(new BigDecimal("21.00")))
+				.append("totalQuantity", 3).append("saleDate", saleDate));
+
+		MongoCustomConversions conversions = MongoCustomConversions
+				.create(adapter -> adapter.bigDecimal(BigDecimalRepresentation.DECIMAL128));
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		mappingContext.afterPropertiesSet();
+		MappingMongoConverter converter = new MappingMongoConverter(new DefaultDbRefResolver(databaseFactory),
+				mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+		MongoTemplate mongoTemplate = new MongoTemplate(databaseFactory, converter);
+
+		salesRepository = new MongoRepositoryFactory(mongoTemplate).getRepository(ISalesRepository.class,
+				RepositoryFragments.just(new ISalesRepositoryCustomImpl(mongoTemplate)));
+	}
+
+	@Test
+	void summaryProjectionRequestsOnlyTheSummaryFields() {
+		ArgumentCaptor<Bson> projection = ArgumentCaptor.forClass(Bson.class);
+
+		salesRepository.findSummariesBy(PageRequest.of(0, 10));
+
+		verify(findIterable).projection(projection.capture());
+		Document fields = (Document) projection.getValue();
+		assertEquals(Set.of("code", "clientId", "status", "totalPrice", "totalQuantity", "saleDate"),
+				fields.keySet());
+		assertFalse(fields.containsKey("productsSet"));
+		assertFalse(fields.containsKey("totalProductQuantity"));
+	}
+
+	@Test
+	void summaryProjectionSumsTheLineItemsWhenTotalQuantityIsMissing() {
+		ArgumentCaptor<Bson> projection = ArgumentCaptor.forClass(Bson.class);
+
+		salesRepository.findSummariesBy(PageRequest.of(0, 10));
+
+		verify(findIterable).projection(projection.capture());
+		assertEquals(Document.parse("""
+				{ "$ifNull": [ "$totalQuantity", { "$sum": "$productsSet.quantity" } ] }
+				"""), ((Document) projection.getValue()).get("totalQuantity"));
+	}
+
+	@Test
+	void summaryProjectionReadsTheStoredTotalQuantity() {
+		Slice<SalesSummaryDTO> slice = salesRepository.findSummariesBy(PageRequest.of(0, 10));
+
+		SalesSummaryDTO summary = slice.getContent().get(0);
+		assertEquals(saleId.toHexString(), summary.getId());
+		assertEquals("S001", summary.getCode());
+		assertEquals(Status.FINISHED, summary.getStatus());
+		assertEquals(new BigDecimal("21.00"), summary.getTotalPrice());
+		assertEquals(3, summary.getTotalProductQuantity());
+		assertEquals(saleDate.toInstant(), summary.getSaleDate());
+		assertFalse(slice.hasNext());
+	}
+
+	@Test
+	void incrementMatchesTheLineByCodeAndStoredPrice() {
+		when(collection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+				.thenReturn(new Document("_id", saleId).append("code", "S001").append("status", "STARTED")
+						.append("totalPrice", new Decimal128(new BigDecimal("31.50"))).append("totalQuantity", 3)
+						.append("version", 2L));
+
+		Optional<Sales> sale = salesRepository.incrementProductQuantity(saleId.toHexString(), product, 2);
+
+		assertEquals(Document.parse("""
+				{ "_id": { "$oid": "%s" }, "status": "STARTED", "totalQuantity": { "$exists": true },
+				  "productsSet": { "$elemMatch": { "product.code": "P001",
+				    "product.price": { "$numberDecimal": "10.50" } } } }
+				""".formatted(saleId.toHexString())), capturedFilter());
+		assertEquals(Document.parse("""
+				{ "$inc": { "productsSet.$.quantity": 2, "productsSet.$.totalPrice": { "$numberDecimal": "21.00" },
+				  "totalPrice": { "$numberDecimal": "21.00" }, "totalQuantity": 2, "version": 1 } }
+				"""), capturedUpdate());
+		assertEquals(new BigDecimal("31.50"), sale.orElseThrow().getTotalPrice());
+		assertEquals(3, sale.orElseThrow().getTotalProductQuantity());
+	}
+
+	@Test
+	void pushRequiresTheProductToBeAbsent() {
+		salesRepository.pushProductQuantity(saleId.toHexString(), product, 2);
+
+		assertEquals(Document.parse("""
+				{ "_id": { "$oid": "%s" }, "status": "STARTED", "totalQuantity": { "$exists": true },
+				  "productsSet.product.code": { "$ne": "P001" } }
+				""".formatted(saleId.toHexString())), capturedFilter());
+		assertEquals(Document.parse("""
+				{ "$push": { "productsSet": { "product": { "_id": "p1", "code": "P001", "name": "Product P001",
+				    "description": "Description", "price": { "$numberDecimal": "10.50" } },
+				    "quantity": 2, "totalPrice": { "$numberDecimal": "21.00" } } },
+				  "$inc": { "totalPrice": { "$numberDecimal": "21.00" }, "totalQuantity": 2, "version": 1 } }
+				"""), capturedUpdate());
+	}
+
+	@Test
+	void decrementRequiresMoreThanTheRemovedQuantity() {
+		salesRepository.decrementProductQuantity(saleId.toHexString(), product, 2);
+
+		assertEquals(Document.parse("""
+				{ "_id": { "$oid": "%s" }, "status": "STARTED", "totalQuantity": { "$exists": true },
+				  "productsSet": { "$elemMatch": { "product.code": "P001",
+				    "product.price": { "$numberDecimal": "10.50" }, "quantity": { "$gt": 2 } } } }
+				""".formatted(saleId.toHexString())), capturedFilter());
+		assertEquals(Document.parse("""
+				{ "$inc": { "productsSet.$.quantity": -2, "productsSet.$.totalPrice": { "$numberDecimal": "-21.00" },
+				  "totalPrice": { "$numberDecimal": "-21.00" }, "totalQuantity": -2, "version": 1 } }
+				"""), capturedUpdate());
+	}
+
+	@Test
+	void unmatchedInPlaceUpdatesReturnEmpty() {
+		when(collection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+				.thenReturn(null);
+
+		assertTrue(salesRepository.incrementProductQuantity(saleId.toHexString(), product, 2).isEmpty());
+		assertTrue(salesRepository.pushProductQuantity(saleId.toHexString(), product, 2).isEmpty());
+		assertTrue(salesRepository.decrementProductQuantity(saleId.toHexString(), product, 2).isEmpty());
+	}
+
+	@Test
+	void savingALoadedSaleWithoutVersionUpdatesIt() {
+		when(findIterable.first()).thenReturn(new Document("_id", saleId).append("code", "S001")
+				.append("clientId", "C001").append("status", "STARTED")
+				.append("totalPrice", new Decimal128(BigDecimal.ZERO)).append("saleDate", saleDate));
+		when(collection.updateOne(any(Bson.class), any(Bson.class), any(UpdateOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+		when(collection.replaceOne(any(Bson.class), any(Document.class), any(ReplaceOptions.class)))
+				.thenReturn(UpdateResult.acknowledged(1, 1L, null));
+		ArgumentCaptor<Bson> versionFilter = ArgumentCaptor.forClass(Bson.class);
+		ArgumentCaptor<Bson> initialVersion = ArgumentCaptor.forClass(Bson.class);
+		ArgumentCaptor<Bson> replaceFilter = ArgumentCaptor.forClass(Bson.class);
+		ArgumentCaptor<Document> replacement = ArgumentCaptor.forClass(Document.class);
+
+		Sales sale = salesRepository.findById(saleId.toHexString()).orElseThrow();
+		sale.setStatus(Status.CANCELED);
+		Sales saved = salesRepository.save(sale);
+
+		verify(collection).updateOne(versionFilter.capture(), initialVersion.capture(), any(UpdateOptions.class));
+		assertEquals(Document.parse("{ 'version': { '$exists': false } }").append("_id", saleId),
+				versionFilter.getValue());
+		assertEquals(new Document("$set", new Document("version", 0L)), initialVersion.getValue());
+		verify(collection).replaceOne(replaceFilter.capture(), replacement.capture(), any(ReplaceOptions.class));
+		assertEquals(new Document("_id", saleId).append("version", 0L), replaceFilter.getValue());
+		assertEquals(1L, replacement.getValue().get("version"));
+		assertEquals("CANCELED", replacement.getValue().get("status"));
+		verify(collection, never()).insertOne(any(Document.class));
+		assertEquals(1L, saved.getVersion());
+	}
+}
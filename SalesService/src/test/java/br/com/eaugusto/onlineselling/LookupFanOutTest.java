@@ -0,0 +1,160 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.exception.DependencyTimeoutException;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.usecases.LookupFanOut;
+
+/**
+ * Unit tests for {@link LookupFanOut}.
+ * <p>
+ * Verifies that both lookups run at the same time, that a failing lookup
+ * cancels its sibling without interrupting it and is rethrown unchanged, that
+ * lookups exceeding the deadline are abandoned, and that callers on a saturated
+ * platform thread pool, as with virtual threads disabled, do not wait for a
+ * free pool thread.
+ * <p>
+ * Uses a fixed platform thread pool as the callers and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class LookupFanOutTest {
+
+	/**
+	 * Size of the application task executor when virtual threads are disabled.
+	 */
+	private static final int PLATFORM_POOL_SIZE = 8;
+
+	private LookupFanOut lookupFanOut;
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@BeforeEach
+	void setup() {
+		lookupFanOut = new LookupFanOut(Duration.ofMillis(500));
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		lookupFanOut.close();
+	}
+
+	@Test
+	void lookupsRunConcurrently() {
+		CountDownLatch bothStarted = new CountDownLatch(2);
+
+		String result = lookupFanOut.both(() -> awaitSibling(bothStarted, "sale"),
+				() -> awaitSibling(bothStarted, "product"), (sale, product) -> sale + "+" + product);
+
+		assertEquals("sale+product", result);
+	}
+
+	@Test
+	void failureCancelsSiblingWithoutInterruptingIt() throws InterruptedException {
+		EntityNotFoundException notFound = new EntityNotFoundException(Sales.class, "id", "sale-1");
+		CountDownLatch siblingStarted = new CountDownLatch(1);
+		CountDownLatch siblingFinished = new CountDownLatch(1);
+		AtomicBoolean siblingInterrupted = new AtomicBoolean();
+
+		EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class,
+				() -> lookupFanOut.both(() -> {
+					awaitQuietly(siblingStarted);
+					throw notFound;
+				}, () -> {
+					siblingStarted.countDown();
+					return blockUntilReleased(siblingInterrupted, siblingFinished);
+				}, (sale, product) -> sale));
+
+		assertSame(notFound, thrown);
+		release.countDown();
+		assertTrue(siblingFinished.await(1, TimeUnit.SECONDS));
+		assertFalse(siblingInterrupted.get());
+	}
+
+	@Test
+	void slowLookupsAreAbandonedAtTheDeadline() throws InterruptedException {
+		CountDownLatch finished = new CountDownLatch(1);
+		AtomicBoolean interrupted = new AtomicBoolean();
+
+		assertThrows(DependencyTimeoutException.class, () -> lookupFanOut.both(() -> "sale",
+				() -> blockUntilReleased(interrupted, finished), (sale, product) -> sale));
+
+		release.countDown();
+		assertTrue(finished.await(1, TimeUnit.SECONDS));
+		assertFalse(interrupted.get());
+	}
+
+	@Test
+	void callersOnASaturatedPlatformPoolAreNotQueued() throws Exception {
+		ExecutorService platformPool = Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+		CountDownLatch allStarted = new CountDownLatch(PLATFORM_POOL_SIZE * 2);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < PLATFORM_POOL_SIZE; i++) {
+				results.add(platformPool.submit(() -> lookupFanOut.both(() -> awaitAll(allStarted),
+						() -> awaitAll(allStarted), (sale, product) -> sale && product)));
+			}
+			for (Future<Boolean> result : results) {
+				assertTrue(result.get(1, TimeUnit.SECONDS));
+			}
+		} finally {
+			platformPool.shutdownNow();
+		}
+	}
+
+	private String awaitSibling(CountDownLatch bothStarted, String value) {
+		bothStarted.countDown();
+		awaitQuietly(bothStarted);
+		return value;
+	}
+
+	/**
+	 * Returns whether the lookup ran on a virtual thread, once every lookup of
+	 * every caller has started.
+	 */
+	private boolean awaitAll(CountDownLatch allStarted) {
+		allStarted.countDown();
+		awaitQuietly(allStarted);
+		return Thread.currentThread().isVirtual();
+	}
+
+	private void awaitQuietly(CountDownLatch latch) {
+		try {
+			assertTrue(latch.await(1, TimeUnit.SECONDS));
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private String blockUntilReleased(AtomicBoolean interrupted, CountDownLatch finished) {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			interrupted.set(true);
+		}
+		finished.countDown();
+		return "too late";
+	}
+}
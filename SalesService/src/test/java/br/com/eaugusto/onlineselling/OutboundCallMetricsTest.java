@@ -0,0 +1,112 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import br.com.eaugusto.onlineselling.services.MeteredFeignClient;
+import br.com.eaugusto.onlineselling.services.MeteredRequestInterceptor;
+import br.com.eaugusto.onlineselling.services.OutboundCallMetrics;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link OutboundCallMetrics} through the {@code RestTemplate}
+ * interceptor and the Feign client that report to it.
+ * <p>
+ * Verifies that calls are timed per target and status, that failures and error
+ * statuses are counted, that request and response sizes are recorded, and that
+ * the in-flight gauge returns to zero.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class OutboundCallMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private OutboundCallMetrics metrics;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		metrics = new OutboundCallMetrics(meterRegistry);
+	}
+
+	@Test
+	void restTemplateCallsAreTimedAndSized() throws IOException {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.POST,
+				URI.create("http://localhost:8081/client/isRegistered"));
+		ClientHttpRequestExecution execution = (httpRequest, body) -> new MockClientHttpResponse(
+				"{\"C1\":true}".getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+
+		try (ClientHttpResponse response = new MeteredRequestInterceptor(metrics).intercept(request,
+				"[\"C1\"]".getBytes(StandardCharsets.UTF_8), execution)) {
+			response.getBody().readAllBytes();
+		}
+
+		assertEquals(1, meterRegistry.get(OutboundCallMetrics.REQUESTS).tags("target", "localhost:8081", "method",
+				"POST", "status", "200", "outcome", "SUCCESS").timer().count());
+		assertEquals(6, meterRegistry.get(OutboundCallMetrics.REQUEST_SIZE).summary().totalAmount());
+		assertEquals(11, meterRegistry.get(OutboundCallMetrics.RESPONSE_SIZE).summary().totalAmount());
+		assertEquals(0, meterRegistry.get(OutboundCallMetrics.IN_FLIGHT).gauge().value());
+		assertEquals(0, meterRegistry.find(OutboundCallMetrics.ERRORS).counters().size());
+	}
+
+	@Test
+	void restTemplateFailuresAreCounted() {
+		MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+				URI.create("http://localhost:8081/client/isRegistered/C1"));
+		ClientHttpRequestExecution execution = (httpRequest, body) -> {
+			throw new IOException("Connection refused");
+		};
+
+		assertThrows(IOException.class,
+				() -> new MeteredRequestInterceptor(metrics).intercept(request, new byte[0], execution));
+
+		assertEquals(1, meterRegistry.get(OutboundCallMetrics.ERRORS)
+				.tags("target", "localhost:8081", "status", "IO_ERROR", "exception", "IOException").counter().count());
+		assertEquals(0, meterRegistry.get(OutboundCallMetrics.IN_FLIGHT).gauge().value());
+	}
+
+	@Test
+	void feignErrorStatusesAreCountedAndResponsesSized() throws IOException {
+		Client delegate = mock(Client.class);
+		Request request = Request.create(Request.HttpMethod.GET, "http://localhost:8082/product/code/P1", Map.of(),
+				null, StandardCharsets.UTF_8, null);
+		when(delegate.execute(any(Request.class), any(Request.Options.class))).thenReturn(Response.builder()
+				.status(500).request(request).body("boom", StandardCharsets.UTF_8).build());
+
+		Response response = new MeteredFeignClient(delegate, metrics).execute(request, new Request.Options());
+		try (InputStream body = response.body().asInputStream()) {
+			body.readAllBytes();
+		}
+
+		assertEquals(1, meterRegistry.get(OutboundCallMetrics.REQUESTS)
+				.tags("target", "localhost:8082", "status", "500", "outcome", "SERVER_ERROR").timer().count());
+		assertEquals(1, meterRegistry.get(OutboundCallMetrics.ERRORS).tags("target", "localhost:8082", "status",
+				"500").counter().count());
+		assertEquals(4, meterRegistry.get(OutboundCallMetrics.RESPONSE_SIZE).summary().totalAmount());
+	}
+}
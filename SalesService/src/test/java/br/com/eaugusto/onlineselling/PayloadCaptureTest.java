@@ -0,0 +1,96 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.eaugusto.onlineselling.services.PayloadCapture;
+
+/**
+ * Unit tests for {@link PayloadCapture}.
+ * <p>
+ * Verifies that nothing is serialized when capture is disabled or a call is not
+ * selected, that calls are selected by sampling, latency and failure, that
+ * payloads are cut at the configured size and that the authorization header is
+ * masked.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class PayloadCaptureTest {
+
+	private static final String URL = "http://localhost:8081/client/isRegistered";
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+
+	private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+	private final HttpEntity<Object> request = new HttpEntity<>(List.of("C1", "C2"), new HttpHeaders());
+
+	private final ResponseEntity<Object> response = ResponseEntity.ok(true);
+
+	private PayloadCapture capture(boolean enabled, long sampleEvery, int maxPayloadChars, ObjectMapper mapper) {
+		return new PayloadCapture(mapper, enabled, sampleEvery, Duration.ofSeconds(1), maxPayloadChars);
+	}
+
+	@Test
+	void disabledCaptureDoesNoWork() {
+		ObjectMapper objectMapper = mock(ObjectMapper.class);
+		PayloadCapture payloadCapture = capture(false, 1, 100, objectMapper);
+
+		assertNull(payloadCapture.capture(HttpMethod.POST, URL, request, null, new ResourceAccessException("down"),
+				SLOW));
+		verifyNoInteractions(objectMapper);
+	}
+
+	@Test
+	void callsAreSelectedBySamplingLatencyAndFailure() {
+		PayloadCapture payloadCapture = capture(true, 3, 100, new ObjectMapper());
+
+		assertNull(payloadCapture.capture(HttpMethod.POST, URL, request, response, null, FAST));
+		assertNull(payloadCapture.capture(HttpMethod.POST, URL, request, response, null, FAST));
+		assertTrue(payloadCapture.capture(HttpMethod.POST, URL, request, response, null, FAST)
+				.startsWith("SAMPLED CALL WITH POST"));
+		assertTrue(payloadCapture.capture(HttpMethod.POST, URL, request, response, null, SLOW).startsWith("SLOW"));
+		String failed = payloadCapture.capture(HttpMethod.POST, URL, request, null,
+				new ResourceAccessException("down"), FAST);
+		assertNotNull(failed);
+		assertTrue(failed.startsWith("FAILED"));
+		assertTrue(failed.contains("RESPONSE STATUS: ResourceAccessException"));
+	}
+
+	@Test
+	void payloadsAreCutAndAuthorizationIsMasked() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth("secret-token");
+		HttpEntity<Object> largeRequest = new HttpEntity<>("x".repeat(20_000), headers);
+		PayloadCapture payloadCapture = capture(true, 1, 50, new ObjectMapper());
+
+		String captured = payloadCapture.capture(HttpMethod.POST, URL, largeRequest,
+				ResponseEntity.status(HttpStatus.CREATED).build(), null, FAST);
+
+		assertTrue(captured.contains("\"Authorization\":[\"***\"]"));
+		assertFalse(captured.contains("secret-token"));
+		assertTrue(captured.contains("BODY: \"" + "x".repeat(49) + "...(truncated)"));
+		assertTrue(captured.contains("RESPONSE STATUS: 201"));
+	}
+}
@@ -0,0 +1,148 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
+import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.repository.IReactiveSalesRepository;
+import br.com.eaugusto.onlineselling.services.ReactiveClientService;
+import br.com.eaugusto.onlineselling.services.ReactiveProductService;
+import br.com.eaugusto.onlineselling.usecases.ReactiveRegisterSale;
+import br.com.eaugusto.onlineselling.usecases.SalesUpdateRetrier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for the {@link ReactiveRegisterSale} use case.
+ * <p>
+ * Verifies that mutations are re-applied to a freshly loaded sale after an
+ * optimistic locking conflict, and that unknown clients, unknown products and
+ * invalid batches are signalled as errors without saving anything.
+ * <p>
+ * Uses Mockito for dependency mocking and Reactor's StepVerifier for
+ * assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ReactiveRegisterSaleTest {
+
+	private ReactiveRegisterSale registerSale;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Mock
+	private IReactiveSalesRepository salesRepository;
+
+	@Mock
+	private ReactiveProductService productService;
+
+	@Mock
+	private ReactiveClientService clientService;
+
+	private final Product product = Product.builder().id("1").code("P001").name("Product P001")
+			.description("Description").price(BigDecimal.TEN).build();
+
+	private Sales createSale(Status status) {
+		return Sales.builder().id("sale-1").code("S001").clientId("C001").status(status)
+				.totalPrice(BigDecimal.ZERO).saleDate(Instant.now()).build();
+	}
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		registerSale = new ReactiveRegisterSale(salesRepository, productService, clientService,
+				new SalesUpdateRetrier(3, Duration.ZERO, meterRegistry), 500);
+		when(productService.findProductByCode(product.getCode())).thenReturn(Mono.just(product));
+		when(productService.findProductByCode("P404")).thenReturn(Mono.empty());
+	}
+
+	@Test
+	void addProductIsReappliedToReloadedSaleAfterConflict() {
+		when(salesRepository.findById("sale-1")).thenReturn(Mono.just(createSale(Status.STARTED)),
+				Mono.just(createSale(Status.STARTED)));
+		when(salesRepository.save(any(Sales.class)))
+				.thenReturn(Mono.error(new OptimisticLockingFailureException("conflict")))
+				.thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(registerSale.addProduct("sale-1", product.getCode(), 2))
+				.assertNext(sale -> assertEquals(2, sale.getTotalProductQuantity()))
+				.verifyComplete();
+
+		verify(salesRepository, times(2)).findById("sale-1");
+		verify(salesRepository, times(2)).save(any(Sales.class));
+		assertEquals(1, meterRegistry.get("sales.update.retries").counter().count());
+	}
+
+	@Test
+	void unknownProductIsRejectedWithoutSaving() {
+		when(salesRepository.findById("sale-1")).thenReturn(Mono.just(createSale(Status.STARTED)));
+
+		StepVerifier.create(registerSale.addProduct("sale-1", "P404", 1))
+				.expectError(EntityNotFoundException.class).verify();
+
+		verify(salesRepository, never()).save(any(Sales.class));
+	}
+
+	@Test
+	void emptyProductChangesAreRejectedBeforeAnyLookup() {
+		StepVerifier.create(registerSale.updateProducts("sale-1", List.of()))
+				.expectError(BadRequestException.class).verify();
+
+		verify(productService, never()).findProductsByCodes(anyCollection());
+		verify(salesRepository, never()).findById("sale-1");
+	}
+
+	@Test
+	void saleOfUnregisteredClientIsNotInserted() {
+		SalesDTO salesDTO = SalesDTO.builder().code("S001").clientId("C404").saleDate(Instant.now()).build();
+		when(clientService.isClientRegistered("C404")).thenReturn(Mono.just(false));
+
+		StepVerifier.create(registerSale.registerSale(salesDTO)).expectError(EntityNotFoundException.class).verify();
+
+		verify(salesRepository, never()).insert(any(Sales.class));
+	}
+
+	@Test
+	void productChangesAreAppliedTogether() {
+		Product other = Product.builder().id("2").code("P002").name("Product P002").description("Description")
+				.price(BigDecimal.ONE).build();
+		when(productService.findProductsByCodes(anyCollection())).thenReturn(Mono.just(List.of(product, other)));
+		when(salesRepository.findById("sale-1")).thenReturn(Mono.just(createSale(Status.STARTED)));
+		when(salesRepository.save(any(Sales.class))).thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+
+		StepVerifier.create(registerSale.updateProducts("sale-1",
+				List.of(new ProductChangeDTO("P001", 3), new ProductChangeDTO("P002", 2),
+						new ProductChangeDTO("P001", -1))))
+				.assertNext(sale -> {
+					assertEquals(4, sale.getTotalProductQuantity());
+					assertEquals(BigDecimal.valueOf(22), sale.getTotalPrice());
+				}).verifyComplete();
+
+		verify(salesRepository, times(1)).save(any(Sales.class));
+	}
+}
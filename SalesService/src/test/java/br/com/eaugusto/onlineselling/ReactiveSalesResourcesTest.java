@@ -0,0 +1,127 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.exception.ReactiveRestExceptionHandler;
+import br.com.eaugusto.onlineselling.resources.ReactiveSalesResources;
+import br.com.eaugusto.onlineselling.usecases.ReactiveRegisterSale;
+import br.com.eaugusto.onlineselling.usecases.ReactiveSearchSale;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+/**
+ * Unit tests for {@link ReactiveSalesResources}.
+ * <p>
+ * Verifies that the paged sales list is served as a JSON array and as
+ * newline-delimited JSON, and that invalid requests and unknown sales are
+ * answered with the {@code ApiError} responses of
+ * {@link ReactiveRestExceptionHandler}.
+ * <p>
+ * Uses Mockito for dependency mocking, WebTestClient bound to the controller
+ * and Reactor's StepVerifier for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ReactiveSalesResourcesTest {
+
+	private WebTestClient webTestClient;
+
+	@Mock
+	private ReactiveSearchSale searchSale;
+
+	@Mock
+	private ReactiveRegisterSale registerSale;
+
+	private Sales createSale(String code) {
+		return Sales.builder().id("id-" + code).code(code).clientId("C001").status(Status.STARTED)
+				.totalPrice(BigDecimal.ZERO).saleDate(Instant.parse("2025-08-14T10:00:00Z")).build();
+	}
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		webTestClient = WebTestClient.bindToController(new ReactiveSalesResources(searchSale, registerSale))
+				.controllerAdvice(new ReactiveRestExceptionHandler())
+				.argumentResolvers(configurer -> configurer
+						.addCustomResolver(new ReactivePageableHandlerMethodArgumentResolver()))
+				.build();
+	}
+
+	@Test
+	void pagedListIsServedAsJsonArray() {
+		when(searchSale.searchAllSales(PageRequest.of(1, 2)))
+				.thenReturn(Flux.just(createSale("S001"), createSale("S002")));
+
+		webTestClient.get().uri("/sales?page=1&size=2").accept(MediaType.APPLICATION_JSON).exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+				.expectBodyList(Sales.class).hasSize(2)
+				.value(sales -> assertEquals("S002", sales.get(1).getCode()));
+	}
+
+	@Test
+	void pagedListIsStreamedAsNdjson() {
+		when(searchSale.searchAllSales(any(Pageable.class)))
+				.thenReturn(Flux.just(createSale("S001"), createSale("S002"), createSale("S003")));
+
+		Flux<Sales> body = webTestClient.get().uri("/sales").accept(MediaType.APPLICATION_NDJSON).exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+				.returnResult(Sales.class).getResponseBody();
+
+		StepVerifier.create(body.map(Sales::getCode))
+				.expectNext("S001", "S002", "S003")
+				.verifyComplete();
+	}
+
+	@Test
+	void invalidSaleIsAnsweredWithValidationErrors() {
+		SalesDTO invalid = SalesDTO.builder().code("S").saleDate(Instant.now()).build();
+
+		webTestClient.post().uri("/sales").contentType(MediaType.APPLICATION_JSON).bodyValue(invalid).exchange()
+				.expectStatus().isBadRequest()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo("BAD_REQUEST")
+				.jsonPath("$.message").isEqualTo("Validation error")
+				.jsonPath("$.subErrors.length()").isEqualTo(2)
+				.jsonPath("$.subErrors[?(@.field == 'code' && @.rejectedValue == 'S')]").exists()
+				.jsonPath("$.subErrors[?(@.field == 'clientId')]").exists();
+
+		verify(registerSale, never()).registerSale(any(SalesDTO.class));
+	}
+
+	@Test
+	void unknownSaleCodeIsAnsweredWithNotFound() {
+		when(searchSale.searchByCode("S404"))
+				.thenReturn(Mono.error(new EntityNotFoundException(Sales.class, "code", "S404")));
+
+		webTestClient.get().uri("/sales/code/S404").exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.status").isEqualTo("NOT_FOUND")
+				.jsonPath("$.message").isEqualTo("Sales was not found for parameters {code=S404}");
+	}
+}
@@ -0,0 +1,230 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import br.com.eaugusto.onlineselling.domain.Product;
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.dto.ProductChangeDTO;
+import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.exception.EntityNotFoundException;
+import br.com.eaugusto.onlineselling.repository.ISalesRepository;
+import br.com.eaugusto.onlineselling.services.ClientService;
+import br.com.eaugusto.onlineselling.services.IProductService;
+import br.com.eaugusto.onlineselling.usecases.LookupFanOut;
+import br.com.eaugusto.onlineselling.usecases.RegisterSale;
+import br.com.eaugusto.onlineselling.usecases.SalesUpdateRetrier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link RegisterSale} use case.
+ * <p>
+ * Verifies that product additions and removals are applied with a single
+ * in-place update when possible, and that the use case falls back to loading
+ * and saving the whole sale otherwise, re-applying the mutation when it loses
+ * an optimistic locking race. Batches of line item changes are applied to
+ * the loaded sale and saved together, or rejected as a whole.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class RegisterSaleTest {
+
+	private RegisterSale registerSale;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@Mock
+	private ISalesRepository salesRepository;
+
+	@Mock
+	private IProductService productService;
+
+	@Mock
+	private ClientService clientService;
+
+	private final Product product = Product.builder().id("1").code("P001").name("Product P001")
+			.description("Description").price(BigDecimal.TEN).build();
+
+	private Sales createSale(Status status) {
+		return Sales.builder().id("sale-1").code("S001").clientId("C001").status(status)
+				.totalPrice(BigDecimal.ZERO).saleDate(Instant.now()).build();
+	}
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		meterRegistry = new SimpleMeterRegistry();
+		registerSale = new RegisterSale(salesRepository, productService, clientService,
+				new SalesUpdateRetrier(3, Duration.ZERO, meterRegistry),
+				new LookupFanOut(Duration.ofSeconds(1)), 500);
+		when(productService.findProductByCode(product.getCode())).thenReturn(product);
+	}
+
+	@Test
+	void addProductIncrementsExistingLineInPlace() {
+		Sales updated = createSale(Status.STARTED);
+		when(salesRepository.incrementProductQuantity("sale-1", product, 2)).thenReturn(Optional.of(updated));
+
+		assertSame(updated, registerSale.addProduct("sale-1", product.getCode(), 2));
+		verify(salesRepository, never()).pushProductQuantity(anyString(), any(), eq(2));
+		verify(salesRepository, never()).findById(anyString());
+		verify(salesRepository, never()).save(any());
+	}
+
+	@Test
+	void addProductPushesNewLineInPlace() {
+		Sales updated = createSale(Status.STARTED);
+		when(salesRepository.incrementProductQuantity("sale-1", product, 2)).thenReturn(Optional.empty());
+		when(salesRepository.pushProductQuantity("sale-1", product, 2)).thenReturn(Optional.of(updated));
+
+		assertSame(updated, registerSale.addProduct("sale-1", product.getCode(), 2));
+		verify(salesRepository, never()).findById(anyString());
+		verify(salesRepository, never()).save(any());
+	}
+
+	@Test
+	void addProductFallsBackToLoadedSale() {
+		Sales sale = createSale(Status.STARTED);
+		when(salesRepository.incrementProductQuantity("sale-1", product, 2)).thenReturn(Optional.empty());
+		when(salesRepository.pushProductQuantity("sale-1", product, 2)).thenReturn(Optional.empty());
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.of(sale));
+		when(salesRepository.save(sale)).thenReturn(sale);
+
+		Sales saved = registerSale.addProduct("sale-1", product.getCode(), 2);
+
+		assertEquals(2, saved.getTotalProductQuantity());
+		assertEquals(BigDecimal.valueOf(20), saved.getTotalPrice());
+	}
+
+	@Test
+	void addProductToMissingSaleThrowsEntityNotFound() {
+		when(salesRepository.incrementProductQuantity("sale-1", product, 1)).thenReturn(Optional.empty());
+		when(salesRepository.pushProductQuantity("sale-1", product, 1)).thenReturn(Optional.empty());
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.empty());
+
+		assertThrows(EntityNotFoundException.class, () -> registerSale.addProduct("sale-1", product.getCode(), 1));
+	}
+
+	@Test
+	void addProductToFinishedSaleIsRejected() {
+		when(salesRepository.incrementProductQuantity("sale-1", product, 1)).thenReturn(Optional.empty());
+		when(salesRepository.pushProductQuantity("sale-1", product, 1)).thenReturn(Optional.empty());
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.of(createSale(Status.FINISHED)));
+
+		assertThrows(UnsupportedOperationException.class,
+				() -> registerSale.addProduct("sale-1", product.getCode(), 1));
+		verify(salesRepository, never()).save(any());
+	}
+
+	@Test
+	void removeProductDecrementsLineInPlace() {
+		Sales updated = createSale(Status.STARTED);
+		when(salesRepository.decrementProductQuantity("sale-1", product, 1)).thenReturn(Optional.of(updated));
+
+		assertSame(updated, registerSale.removeProduct("sale-1", product.getCode(), 1));
+		verify(salesRepository, never()).findById(anyString());
+	}
+
+	@Test
+	void removeWholeLineFallsBackToLoadedSale() {
+		Sales sale = createSale(Status.STARTED);
+		sale.addProduct(product, 2);
+		when(salesRepository.decrementProductQuantity("sale-1", product, 2)).thenReturn(Optional.empty());
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.of(sale));
+		when(salesRepository.save(sale)).thenReturn(sale);
+
+		Sales saved = registerSale.removeProduct("sale-1", product.getCode(), 2);
+
+		assertTrue(saved.getProductsSet().isEmpty());
+		assertEquals(BigDecimal.ZERO, saved.getTotalPrice());
+	}
+
+	@Test
+	void finishSaleIsReappliedAfterConcurrentModification() {
+		when(salesRepository.findById("sale-1")).thenAnswer(invocation -> Optional.of(createSale(Status.STARTED)));
+		when(salesRepository.save(any(Sales.class))).thenThrow(new OptimisticLockingFailureException("conflict"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		Sales finished = registerSale.finishSale("sale-1");
+
+		assertEquals(Status.FINISHED, finished.getStatus());
+		verify(salesRepository, times(2)).findById("sale-1");
+		assertEquals(1, meterRegistry.counter("sales.update.conflicts").count());
+		assertEquals(1, meterRegistry.counter("sales.update.retries").count());
+	}
+
+	@Test
+	void cancelSaleGivesUpAfterMaxAttempts() {
+		when(salesRepository.findById("sale-1")).thenAnswer(invocation -> Optional.of(createSale(Status.STARTED)));
+		when(salesRepository.save(any(Sales.class))).thenThrow(new OptimisticLockingFailureException("conflict"));
+
+		assertThrows(OptimisticLockingFailureException.class, () -> registerSale.cancelSale("sale-1"));
+		verify(salesRepository, times(3)).save(any(Sales.class));
+		assertEquals(3, meterRegistry.counter("sales.update.conflicts").count());
+		assertEquals(1, meterRegistry.counter("sales.update.exhausted").count());
+	}
+
+	@Test
+	void updateProductsAppliesEveryChangeWithOneSave() {
+		Product other = Product.builder().id("2").code("P002").name("Product P002").description("Description")
+				.price(BigDecimal.ONE).build();
+		Sales sale = createSale(Status.STARTED);
+		sale.addProduct(other, 3);
+		when(productService.findProductsByCodes(any())).thenReturn(List.of(product, other));
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.of(sale));
+		when(salesRepository.save(sale)).thenReturn(sale);
+
+		Sales saved = registerSale.updateProducts("sale-1",
+				List.of(new ProductChangeDTO("P001", 2), new ProductChangeDTO("P002", -1),
+						new ProductChangeDTO("P001", 1)));
+
+		assertEquals(5, saved.getTotalProductQuantity());
+		assertEquals(BigDecimal.valueOf(32), saved.getTotalPrice());
+		verify(productService, times(1)).findProductsByCodes(any());
+		verify(salesRepository, times(1)).findById("sale-1");
+		verify(salesRepository, times(1)).save(sale);
+	}
+
+	@Test
+	void updateProductsWithUnknownCodeChangesNothing() {
+		when(productService.findProductsByCodes(any())).thenReturn(List.of(product));
+
+		when(salesRepository.findById("sale-1")).thenReturn(Optional.of(createSale(Status.STARTED)));
+
+		assertThrows(EntityNotFoundException.class, () -> registerSale.updateProducts("sale-1",
+				List.of(new ProductChangeDTO("P001", 1), new ProductChangeDTO("P404", 1))));
+		verify(salesRepository, never()).save(any());
+	}
+
+	@Test
+	void updateProductsRejectsZeroDelta() {
+		assertThrows(BadRequestException.class,
+				() -> registerSale.updateProducts("sale-1", List.of(new ProductChangeDTO("P001", 0))));
+		verify(productService, never()).findProductsByCodes(any());
+	}
+}
@@ -0,0 +1,114 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.mongodb.MongoTimeoutException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.WriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.result.UpdateResult;
+
+import br.com.eaugusto.onlineselling.config.SalesDocumentMigration;
+import br.com.eaugusto.onlineselling.domain.Sales;
+
+/**
+ * Unit tests for {@link SalesDocumentMigration}.
+ * <p>
+ * Verifies that nothing is read while the migration is disabled, that each step
+ * is recorded and applied once, that steps with a marker are skipped, and that
+ * a failed step removes its marker so it is retried.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class SalesDocumentMigrationTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	@SuppressWarnings("unchecked")
+	private final MongoCollection<Document> sales = mock(MongoCollection.class);
+
+	@SuppressWarnings("unchecked")
+	private final MongoCollection<Document> migrations = mock(MongoCollection.class);
+
+	@BeforeEach
+	void setup() {
+		when(mongoTemplate.getCollectionName(Sales.class)).thenReturn("sales");
+		when(mongoTemplate.getCollection("sales")).thenReturn(sales);
+		when(mongoTemplate.getCollection(SalesDocumentMigration.MIGRATIONS_COLLECTION)).thenReturn(migrations);
+		when(sales.updateMany(any(Bson.class), anyList())).thenReturn(UpdateResult.acknowledged(2, 2L, null));
+		when(sales.updateMany(any(Bson.class), any(Bson.class))).thenReturn(UpdateResult.acknowledged(2, 2L, null));
+	}
+
+	private MongoWriteException duplicateKey() {
+		return new MongoWriteException(new WriteError(11000, "duplicate key", new BsonDocument()),
+				new ServerAddress(), List.of());
+	}
+
+	@Test
+	void disabledMigrationDoesNotTouchTheDatabase() {
+		new SalesDocumentMigration(mongoTemplate, false).run(null);
+
+		verifyNoInteractions(mongoTemplate);
+	}
+
+	@Test
+	void everyStepIsRecordedAndApplied() {
+		ArgumentCaptor<Document> markers = ArgumentCaptor.forClass(Document.class);
+
+		new SalesDocumentMigration(mongoTemplate, true).run(null);
+
+		verify(migrations, times(3)).insertOne(markers.capture());
+		assertEquals(List.of("1-decimal-amounts", "2-initial-version", "3-total-quantity"),
+				markers.getAllValues().stream().map(marker -> marker.get("_id")).toList());
+		verify(sales, times(2)).updateMany(any(Bson.class), anyList());
+		verify(sales).updateMany(any(Bson.class), any(Bson.class));
+		verify(migrations, times(3)).updateOne(any(Bson.class), any(Bson.class));
+	}
+
+	@Test
+	void recordedStepsAreSkipped() {
+		doThrow(duplicateKey()).when(migrations)
+				.insertOne(argThat(marker -> !"3-total-quantity".equals(marker.get("_id"))));
+
+		new SalesDocumentMigration(mongoTemplate, true).run(null);
+
+		verify(sales, never()).updateMany(any(Bson.class), any(Bson.class));
+		verify(sales, times(1)).updateMany(any(Bson.class), anyList());
+		verify(migrations, times(1)).updateOne(any(Bson.class), any(Bson.class));
+	}
+
+	@Test
+	void failedStepRemovesItsMarker() {
+		when(sales.updateMany(any(Bson.class), anyList())).thenThrow(new MongoTimeoutException("timed out"));
+
+		assertThrows(MongoTimeoutException.class, () -> new SalesDocumentMigration(mongoTemplate, true).run(null));
+
+		verify(migrations).deleteOne(any(Bson.class));
+		verify(migrations, never()).updateOne(any(Bson.class), any(Bson.class));
+	}
+}
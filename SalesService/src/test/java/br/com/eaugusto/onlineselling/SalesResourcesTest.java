@@ -27,7 +27,10 @@ import org.springframework.http.ResponseEntity;
 import br.com.eaugusto.onlineselling.domain.Product;
 import br.com.eaugusto.onlineselling.domain.Sales;
 import br.com.eaugusto.onlineselling.dto.SalesDTO;
+import br.com.eaugusto.onlineselling.dto.SalesSummaryDTO;
+import br.com.eaugusto.onlineselling.dto.SliceDTO;
 import br.com.eaugusto.onlineselling.enums.Status;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
 import br.com.eaugusto.onlineselling.resources.SalesResources;
 import br.com.eaugusto.onlineselling.usecases.RegisterSale;
 import br.com.eaugusto.onlineselling.usecases.SearchSale;
@@ -38,7 +41,8 @@ import br.com.eaugusto.onlineselling.usecases.SearchSale;
  * Validates the behavior of all REST endpoints exposed by SalesResources,
  * including:
  * <ul>
- * <li>Searching all sales and searching by sale code</li>
+ * <li>Searching all sales, listing sale summaries and searching by sale
+ * code</li>
  * <li>Registering, finishing, and canceling sales</li>
  * <li>Adding, removing, and clearing products in a sale</li>
  * <li>Domain-level validations such as disallowing modifications to finished
@@ -108,6 +112,25 @@ class SalesResourcesTest {
 		assertSaleEquals(sale2, body.getContent().get(1));
 	}
 
+	@Test
+	void searchSalesSummaries() {
+		Sales sale = createSale();
+		SalesSummaryDTO summary = new SalesSummaryDTO(sale.getId(), sale.getCode(), sale.getClientId(),
+				sale.getStatus(), sale.getTotalPrice(), 0, sale.getSaleDate());
+		PageRequest pageable = PageRequest.of(0, 10);
+
+		when(searchSale.searchSalesSummaries(pageable, TotalSource.NONE))
+				.thenReturn(new SliceDTO<>(List.of(summary), 0, 10, false, null, TotalSource.NONE));
+
+		SliceDTO<SalesSummaryDTO> body = salesResources.searchSalesSummaries(pageable, TotalSource.NONE).getBody();
+
+		assertNotNull(body);
+		assertEquals(sale.getCode(), body.getContent().get(0).getCode());
+		assertEquals(sale.getTotalPrice(), body.getContent().get(0).getTotalPrice());
+		assertFalse(body.isHasNext());
+		assertEquals(TotalSource.NONE, body.getTotalSource());
+	}
+
 	@Test
 	void searchSaleByCode() {
 		Sales sale = createSale();
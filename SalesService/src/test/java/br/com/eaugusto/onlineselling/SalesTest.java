@@ -4,11 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import java.math.BigDecimal;
 import java.time.Instant;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import br.com.eaugusto.onlineselling.domain.Product;
 import br.com.eaugusto.onlineselling.domain.ProductQuantity;
@@ -27,6 +32,8 @@ import br.com.eaugusto.onlineselling.enums.Status;
  * <li>Incrementing and decrementing product quantities</li>
  * <li>Clearing all products from a sale</li>
  * <li>Default state of {@link ProductQuantity}</li>
+ * <li>Line items keeping their JSON array shape</li>
+ * <li>Incremental totals checked against a full recomputation</li>
  * </ul>
  * 
  * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
@@ -34,6 +41,8 @@ import br.com.eaugusto.onlineselling.enums.Status;
  */
 class SalesTest {
 
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
 	private Product createProduct(String code, BigDecimal price) {
 		return Product.builder().id("1").code(code).name("Product " + code).description("Description").price(price)
 				.build();
@@ -141,4 +150,34 @@ class SalesTest {
 		assertEquals(0, productQuantity.getQuantity());
 		assertEquals(BigDecimal.ZERO, productQuantity.getTotalPrice());
 	}
+
+	@Test
+	void productsSetIsWrittenAndReadAsJsonArray() throws Exception {
+		Sales sale = Sales.builder().code("S001").clientId("C001").status(Status.STARTED).saleDate(Instant.now())
+				.build();
+		sale.addProduct(createProduct("P001", BigDecimal.TEN), 2);
+		sale.addProduct(createProduct("P002", BigDecimal.ONE), 1);
+
+		String json = objectMapper.writeValueAsString(sale);
+		JsonNode lines = objectMapper.readTree(json).get("productsSet");
+		assertTrue(lines.isArray());
+		assertEquals("P001", lines.get(0).get("product").get("code").asText());
+
+		Sales read = objectMapper.readValue(json, Sales.class);
+		assertEquals(2, read.getProductsSet().size());
+		assertEquals(2, read.getProductsSet().get("P001").getQuantity());
+
+		read.removeProduct(createProduct("P001", BigDecimal.TEN), 2);
+		assertEquals(1, read.getProductsSet().size());
+		assertEquals(BigDecimal.ONE, read.getTotalPrice());
+	}
+
+	@Test
+	void driftedTotalsAreDetectedInVerificationMode() {
+		assumeTrue(Boolean.getBoolean(Sales.VERIFY_TOTALS_PROPERTY));
+		Sales sale = Sales.builder().code("S001").clientId("C001").status(Status.STARTED).saleDate(Instant.now())
+				.totalPrice(BigDecimal.ONE).totalProductQuantity(0).build();
+
+		assertThrows(IllegalStateException.class, () -> sale.addProduct(createProduct("P001", BigDecimal.TEN), 1));
+	}
 }
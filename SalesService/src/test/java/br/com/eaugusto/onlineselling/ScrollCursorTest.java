@@ -0,0 +1,88 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.ScrollPosition.Direction;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import br.com.eaugusto.onlineselling.exception.BadRequestException;
+import br.com.eaugusto.onlineselling.usecases.ScrollCursor;
+
+/**
+ * Unit tests for {@link ScrollCursor}.
+ * <p>
+ * Verifies that the cursor of a window continues after its last element, that
+ * the last window has no cursor, and that malformed or forged cursors and out
+ * of range sizes are rejected.
+ * <p>
+ * Uses JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class ScrollCursorTest {
+
+	private static final Sort SORT = Sort.by("saleDate", "id");
+
+	private static final Instant SALE_DATE = Instant.parse("2025-08-14T10:00:00Z");
+
+	private Window<String> window(boolean hasNext) {
+		return Window.from(List.of("S001", "S002"),
+				index -> ScrollPosition.of(Map.of("saleDate", SALE_DATE.plusSeconds(index), "id", "sale-" + index),
+						Direction.FORWARD),
+				hasNext);
+	}
+
+	private String encode(String json) {
+		return Base64.getUrlEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void cursorContinuesAfterLastElement() {
+		String cursor = ScrollCursor.next(window(true));
+
+		KeysetScrollPosition position = ScrollCursor.position(cursor, SORT);
+
+		assertTrue(position.scrollsForward());
+		assertEquals(Date.from(SALE_DATE.plusSeconds(1)), position.getKeys().get("saleDate"));
+		assertEquals("sale-1", position.getKeys().get("id"));
+	}
+
+	@Test
+	void lastWindowHasNoCursor() {
+		assertNull(ScrollCursor.next(window(false)));
+		assertTrue(ScrollCursor.position(null, SORT).isInitial());
+	}
+
+	@Test
+	void malformedOrForgedCursorsAreRejected() {
+		assertThrows(BadRequestException.class, () -> ScrollCursor.position("not a cursor", SORT));
+		assertThrows(BadRequestException.class,
+				() -> ScrollCursor.position(encode("{\"id\": \"sale-1\"}"), SORT));
+		assertThrows(BadRequestException.class, () -> ScrollCursor
+				.position(encode("{\"saleDate\": 1, \"id\": \"sale-1\", \"$where\": \"sleep(1000)\"}"), SORT));
+		assertThrows(BadRequestException.class,
+				() -> ScrollCursor.position(encode("{\"saleDate\": 1, \"id\": {\"$ne\": null}}"), SORT));
+	}
+
+	@Test
+	void sizeMustBeWithinLimit() {
+		assertEquals(1000, ScrollCursor.limit(1000, 1000).max());
+		assertThrows(BadRequestException.class, () -> ScrollCursor.limit(0, 1000));
+		assertThrows(BadRequestException.class, () -> ScrollCursor.limit(1001, 1000));
+	}
+}
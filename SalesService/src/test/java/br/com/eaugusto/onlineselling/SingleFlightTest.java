@@ -0,0 +1,138 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.eaugusto.onlineselling.exception.DependencyUnavailableException;
+import br.com.eaugusto.onlineselling.services.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ * <p>
+ * Verifies that concurrent calls for one key share a single execution and its
+ * result or failure, that a key is executed again once its call returned, and
+ * that executed and coalesced calls are counted.
+ * <p>
+ * Uses a thread pool of concurrent callers and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private SingleFlight<String, String> singleFlight;
+
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setup() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight<>("products", meterRegistry);
+		executor = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private double calls(String result) {
+		return meterRegistry.get(SingleFlight.CALLS).tags("name", "products", "result", result).counter().count();
+	}
+
+	/**
+	 * Starts one caller that blocks inside the call, then the other callers, and
+	 * releases the call once they all joined it.
+	 */
+	private List<Future<String>> concurrentCalls(Supplier<String> call) throws InterruptedException {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		Supplier<String> blockingCall = () -> {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return call.get();
+		};
+		List<Future<String>> results = new ArrayList<>();
+		results.add(executor.submit(() -> singleFlight.execute("P001", blockingCall)));
+		assertTrue(started.await(5, TimeUnit.SECONDS));
+		for (int i = 1; i < CALLERS; i++) {
+			results.add(executor.submit(() -> singleFlight.execute("P001", blockingCall)));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (calls("coalesced") < CALLERS - 1 && System.nanoTime() < deadline) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+		return results;
+	}
+
+	@Test
+	void concurrentCallsShareOneExecution() throws Exception {
+		AtomicInteger executions = new AtomicInteger();
+		String product = "Product P001";
+
+		for (Future<String> result : concurrentCalls(() -> {
+			executions.incrementAndGet();
+			return product;
+		})) {
+			assertSame(product, result.get(5, TimeUnit.SECONDS));
+		}
+
+		assertEquals(1, executions.get());
+		assertEquals(1, calls("executed"));
+		assertEquals(CALLERS - 1, calls("coalesced"));
+		assertEquals(0, meterRegistry.get(SingleFlight.IN_FLIGHT).gauge().value());
+	}
+
+	@Test
+	void concurrentCallsShareOneFailure() throws Exception {
+		DependencyUnavailableException failure = new DependencyUnavailableException("unavailable");
+
+		for (Future<String> result : concurrentCalls(() -> {
+			throw failure;
+		})) {
+			ExecutionException ex = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+			assertSame(failure, ex.getCause());
+		}
+
+		assertEquals(1, calls("executed"));
+	}
+
+	@Test
+	void keysAreExecutedAgainOnceTheirCallReturned() {
+		AtomicInteger executions = new AtomicInteger();
+
+		singleFlight.execute("P001", () -> "call " + executions.incrementAndGet());
+		String second = singleFlight.execute("P001", () -> "call " + executions.incrementAndGet());
+
+		assertEquals("call 2", second);
+		assertEquals(2, calls("executed"));
+		assertEquals(0, calls("coalesced"));
+	}
+}
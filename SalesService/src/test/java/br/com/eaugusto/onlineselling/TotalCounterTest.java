@@ -0,0 +1,72 @@
+package br.com.eaugusto.onlineselling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import br.com.eaugusto.onlineselling.domain.Sales;
+import br.com.eaugusto.onlineselling.enums.TotalSource;
+import br.com.eaugusto.onlineselling.usecases.TotalCounter;
+
+/**
+ * Unit tests for {@link TotalCounter}.
+ * <p>
+ * Verifies that no total is counted unless requested, that estimated totals
+ * come from the collection metadata, and that cached totals are counted once
+ * until the refresh interval elapses.
+ * <p>
+ * Uses Mockito for dependency mocking and JUnit 5 for assertions.
+ *
+ * @author Eduardo Augusto (github.com/AsrielDreemurrGM/)
+ * @since Oct 17, 2026
+ */
+class TotalCounterTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+
+	private final Clock clock = Clock.fixed(Instant.parse("2026-10-17T10:00:00Z"), ZoneOffset.UTC);
+
+	private final TotalCounter totalCounter = new TotalCounter(mongoTemplate, Duration.ofMinutes(1), clock);
+
+	@Test
+	void noTotalIsCountedUnlessRequested() {
+		assertNull(totalCounter.total(Sales.class, TotalSource.NONE));
+
+		verify(mongoTemplate, never()).estimatedCount(Sales.class);
+		verify(mongoTemplate, never()).count(any(Query.class), eq(Sales.class));
+	}
+
+	@Test
+	void estimatedTotalComesFromCollectionMetadata() {
+		when(mongoTemplate.estimatedCount(Sales.class)).thenReturn(42L);
+
+		assertEquals(42L, totalCounter.total(Sales.class, TotalSource.ESTIMATED));
+
+		verify(mongoTemplate, never()).count(any(Query.class), eq(Sales.class));
+	}
+
+	@Test
+	void cachedTotalIsCountedOnceWithinRefreshInterval() {
+		when(mongoTemplate.count(any(Query.class), eq(Sales.class))).thenReturn(7L, 8L);
+
+		assertEquals(7L, totalCounter.total(Sales.class, TotalSource.CACHED));
+		assertEquals(7L, totalCounter.total(Sales.class, TotalSource.CACHED));
+
+		verify(mongoTemplate, times(1)).count(any(Query.class), eq(Sales.class));
+	}
+}